@@ -25,6 +25,7 @@ plugins {
     idea
     application
     alias(libs.plugins.licenser)
+    alias(libs.plugins.jmh)
 }
 
 val projectVersion: String by project
@@ -102,6 +103,13 @@ tasks {
     }
 }
 
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    jvmArgsAppend.add("-Djava.awt.headless=true")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+}
+
 idea {
     module {
         isDownloadJavadoc = true
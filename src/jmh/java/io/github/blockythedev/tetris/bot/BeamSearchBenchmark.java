@@ -0,0 +1,92 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.bot;
+
+import io.github.blockythedev.tetris.constants.GameConstants;
+import io.github.blockythedev.tetris.logic.BoardFixtures;
+import io.github.blockythedev.tetris.logic.GameEngine;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the placement search of the {@link BeamSearch}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeamSearchBenchmark {
+    /**
+     * The number of boards kept per layer.
+     */
+    @Param({"8", "16", "32"})
+    public int beamWidth;
+
+    private BoardSnapshot snapshot;
+    private BeamSearch search;
+
+    /**
+     * Constructs the class {@link BeamSearchBenchmark}.
+     */
+    public BeamSearchBenchmark() {
+        // default constructor
+    }
+
+    /**
+     * Creates the board state with a spawned shape.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        final GameEngine engine = BoardFixtures.createEngine(25, false);
+        engine.step();
+        snapshot = BoardSnapshot.of(engine.getBoard());
+    }
+
+    /**
+     * Creates the search with an empty transposition table, so that every invocation evaluates all boards.
+     */
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        search = new BeamSearch(ForkJoinPool.commonPool(), HeuristicWeights.DEFAULT, beamWidth, 1 + GameConstants.PREVIEW_PIECES,
+                new TranspositionTable(BeamSearch.DEFAULT_TABLE_CAPACITY_BITS));
+    }
+
+    /**
+     * Searches the best placement of the current shape.
+     *
+     * @return Returns the best placement.
+     */
+    @Benchmark
+    public Placement findPlacement() {
+        return search.findPlacement(snapshot);
+    }
+}
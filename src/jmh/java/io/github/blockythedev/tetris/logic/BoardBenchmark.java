@@ -0,0 +1,165 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.logic;
+
+import io.github.blockythedev.tetris.constants.GameConstants;
+import io.github.blockythedev.tetris.shapes.PieceType;
+import io.github.blockythedev.tetris.utils.Rotation;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the core operations of the {@link Board}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+    /**
+     * The percentage of filled board lines.
+     */
+    @Param({"0", "25", "50", "75"})
+    public int fillPercentage;
+
+    /**
+     * The number of prepared board states, which are restored round-robin by the benchmarks changing the board.
+     */
+    private static final int FIXTURE_COUNT = 16;
+
+    private final ByteBuffer[] fixtures = new ByteBuffer[FIXTURE_COUNT];
+    private int nextFixture;
+    private Board board;
+
+    /**
+     * Constructs the class {@link BoardBenchmark}.
+     */
+    public BoardBenchmark() {
+        // default constructor
+    }
+
+    /**
+     * Creates the board states with different current shapes.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        final Board template = BoardFixtures.createEngine(fillPercentage, true).getBoard();
+        final GameEngine engine = BoardFixtures.createEngine(0, false);
+        board = engine.getBoard();
+        for (int i = 0; i < FIXTURE_COUNT; i++) {
+            engine.reset(BoardFixtures.SEED + i);
+            // spawns a new shape on the empty board, before the prepared lines are restored
+            board.update();
+            BoardFixtures.copy(template, board);
+            fixtures[i] = ByteBuffer.allocate(GameEngine.MAX_STATE_BYTES);
+            board.writeState(fixtures[i]);
+            fixtures[i].flip();
+        }
+        restoreFixture();
+    }
+
+    /**
+     * Restores the next prepared board state.
+     * <p>
+     * The benchmarks changing the board restore a state within the measured method, because a setup per invocation
+     * distorts measurements in the range of nanoseconds. The time of restoring is measured by {@link #restore()}.
+     * </p>
+     */
+    private void restoreFixture() {
+        final ByteBuffer fixture = fixtures[nextFixture];
+        nextFixture = (nextFixture + 1) % FIXTURE_COUNT;
+        board.readState(fixture.rewind());
+    }
+
+    /**
+     * Checks every shape, rotation and column on the board.
+     *
+     * @param blackhole The blackhole consuming the results.
+     */
+    @Benchmark
+    public void isPlaceable(final Blackhole blackhole) {
+        for (final PieceType pieceType : PieceType.values()) {
+            for (final Rotation rotation : Rotation.values()) {
+                for (int column = 0; column < GameConstants.COLUMNS; column++) {
+                    blackhole.consume(board.isPlaceable(pieceType, rotation, column, 2));
+                }
+            }
+        }
+    }
+
+    /**
+     * Calculates the landing position of every shape, rotation and column, where the shape is placeable.
+     *
+     * @param blackhole The blackhole consuming the results.
+     */
+    @Benchmark
+    public void getLandingPosY(final Blackhole blackhole) {
+        for (final PieceType pieceType : PieceType.values()) {
+            for (final Rotation rotation : Rotation.values()) {
+                for (int column = 0; column < GameConstants.COLUMNS; column++) {
+                    if (board.isPlaceable(pieceType, rotation, column, 0)) {
+                        blackhole.consume(board.getLandingPosY(pieceType, rotation, column, 0));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Restores a prepared board state, which is the baseline of the benchmarks changing the board.
+     */
+    @Benchmark
+    public void restore() {
+        restoreFixture();
+    }
+
+    /**
+     * Restores a prepared board state and removes its full lines.
+     *
+     * @return Returns the number of removed lines.
+     */
+    @Benchmark
+    public int removeFullLines() {
+        restoreFixture();
+        return board.removeFullLines(0, GameConstants.LINES);
+    }
+
+    /**
+     * Restores a prepared board state and drops its current shape down.
+     */
+    @Benchmark
+    public void dropShapeDown() {
+        restoreFixture();
+        board.dropShapeDown();
+    }
+}
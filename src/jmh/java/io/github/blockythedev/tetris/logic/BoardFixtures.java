@@ -0,0 +1,98 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.logic;
+
+import io.github.blockythedev.tetris.constants.GameConstants;
+import io.github.blockythedev.tetris.shapes.PieceType;
+import io.github.blockythedev.tetris.utils.Stats;
+import java.util.SplittableRandom;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A final class for creating game states with a representative board fill level for the benchmarks.
+ */
+public final class BoardFixtures {
+    /**
+     * The seed used for all generated board states, so that every run measures the same states.
+     */
+    public static final long SEED = 0x5EEDL;
+
+    /**
+     * Prevents the constructor from being called.
+     *
+     * @throws UnsupportedOperationException Thrown, when the constructor gets called.
+     */
+    private BoardFixtures() {
+        throw new UnsupportedOperationException("Cannot instantiate class");
+    }
+
+    /**
+     * Creates a game engine with a filled board.
+     *
+     * @param fillPercentage The percentage of lines, which are filled from the bottom.
+     * @param fullLines Whether every second filled line should be completely full.
+     * @return Returns the game engine.
+     */
+    public static @NotNull GameEngine createEngine(final int fillPercentage, final boolean fullLines) {
+        final GameEngine engine = new GameEngine(new Stats(), SEED);
+        fill(engine.getBoard(), fillPercentage, fullLines);
+        return engine;
+    }
+
+    /**
+     * Fills the board from the bottom with random blocks and one hole per line.
+     *
+     * @param board The board to fill.
+     * @param fillPercentage The percentage of lines, which are filled from the bottom.
+     * @param fullLines Whether every second filled line should be completely full.
+     */
+    public static void fill(final @NotNull Board board, final int fillPercentage, final boolean fullLines) {
+        final SplittableRandom random = new SplittableRandom(SEED);
+        final PieceType[] pieceTypes = PieceType.values();
+        final int[] occupancy = board.getOccupancy();
+        final byte[][] cells = board.getBoard();
+        final int filledLines = GameConstants.LINES * fillPercentage / 100;
+
+        for (int i = 0; i < filledLines; i++) {
+            final int line = GameConstants.LINES - 1 - i;
+            final int hole = fullLines && i % 2 == 0 ? -1 : random.nextInt(GameConstants.COLUMNS);
+            for (int column = 0; column < GameConstants.COLUMNS; column++) {
+                if (column == hole) {
+                    continue;
+                }
+                occupancy[line] |= 1 << column;
+                cells[line][column] = pieceTypes[random.nextInt(pieceTypes.length)].getId();
+            }
+        }
+        board.updateColumnHeights();
+    }
+
+    /**
+     * Copies the board state from one board to another one.
+     *
+     * @param source The board to copy from.
+     * @param target The board to copy to.
+     */
+    public static void copy(final @NotNull Board source, final @NotNull Board target) {
+        System.arraycopy(source.getOccupancy(), 0, target.getOccupancy(), 0, GameConstants.LINES);
+        for (int line = 0; line < GameConstants.LINES; line++) {
+            System.arraycopy(source.getBoard()[line], 0, target.getBoard()[line], 0, GameConstants.COLUMNS);
+        }
+        System.arraycopy(source.getColumnHeights(), 0, target.getColumnHeights(), 0, GameConstants.COLUMNS);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.shapes;
+
+import io.github.blockythedev.tetris.utils.Block;
+import io.github.blockythedev.tetris.utils.Rotation;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the shape generation of {@link Shape} and the lookups of {@link PieceType}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShapeBenchmark {
+    private Block[][] normalShape;
+
+    /**
+     * Constructs the class {@link ShapeBenchmark}.
+     */
+    public ShapeBenchmark() {
+        // default constructor
+    }
+
+    /**
+     * Creates the shape to rotate.
+     */
+    @Setup
+    public void setUp() {
+        normalShape = PieceType.L_LEFT.getShape(Rotation.NORMAL);
+    }
+
+    /**
+     * Rotates a shape clockwise.
+     *
+     * @return Returns the rotated shape.
+     */
+    @Benchmark
+    public Block[][] rotateShape() {
+        return Shape.rotateShape(normalShape, Rotation.RIGHT, false);
+    }
+
+    /**
+     * Generates a shape in all rotations.
+     *
+     * @return Returns the generated shapes.
+     */
+    @Benchmark
+    public Block[][][] generateShapeList() {
+        return Shape.generateShapeList(normalShape, false);
+    }
+
+    /**
+     * Looks up the precomputed row masks of a piece.
+     *
+     * @return Returns the row masks.
+     */
+    @Benchmark
+    public int[] getRowMasks() {
+        return PieceType.L_LEFT.getRowMasks(Rotation.RIGHT);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.ui;
+
+import io.github.blockythedev.tetris.constants.GameConstants;
+import io.github.blockythedev.tetris.logic.BoardFixtures;
+import io.github.blockythedev.tetris.logic.GameEngine;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for painting the {@link BlockContainerScreen} into an offscreen image.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockContainerScreenBenchmark {
+    private static final int BLOCK_SIZE = 32;
+
+    /**
+     * The percentage of filled board lines.
+     */
+    @Param({"0", "25", "50", "75"})
+    public int fillPercentage;
+
+    private BlockContainerScreen blockContainerScreen;
+    private BufferedImage image;
+    private Graphics2D graphics;
+
+    /**
+     * Constructs the class {@link BlockContainerScreenBenchmark}.
+     */
+    public BlockContainerScreenBenchmark() {
+        // default constructor
+    }
+
+    /**
+     * Creates the screen and the offscreen image.
+     */
+    @Setup
+    public void setUp() {
+        final GameEngine engine = BoardFixtures.createEngine(fillPercentage, false);
+        engine.step();
+        blockContainerScreen = new BlockContainerScreen(engine);
+        blockContainerScreen.setSize(GameConstants.COLUMNS * BLOCK_SIZE, GameConstants.LINES * BLOCK_SIZE);
+        image = new BufferedImage(GameConstants.COLUMNS * BLOCK_SIZE, GameConstants.LINES * BLOCK_SIZE, BufferedImage.TYPE_INT_RGB);
+        graphics = image.createGraphics();
+    }
+
+    /**
+     * Releases the graphics context.
+     */
+    @TearDown
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    /**
+     * Paints the board and the current shape.
+     */
+    @Benchmark
+    public void paint() {
+        blockContainerScreen.drawBoard(graphics, false);
+    }
+}
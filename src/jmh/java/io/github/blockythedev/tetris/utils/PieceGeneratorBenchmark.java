@@ -0,0 +1,70 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.utils;
+
+import io.github.blockythedev.tetris.constants.GameConstants;
+import io.github.blockythedev.tetris.shapes.PieceType;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the piece selection of the {@link PieceGenerator}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PieceGeneratorBenchmark {
+    private PieceGenerator pieceGenerator;
+
+    /**
+     * Constructs the class {@link PieceGeneratorBenchmark}.
+     */
+    public PieceGeneratorBenchmark() {
+        // default constructor
+    }
+
+    /**
+     * Creates the piece generator.
+     */
+    @Setup
+    public void setUp() {
+        pieceGenerator = new PieceGenerator(0x5EEDL, GameConstants.PREVIEW_PIECES);
+    }
+
+    /**
+     * Selects the next piece.
+     *
+     * @return Returns the selected piece.
+     */
+    @Benchmark
+    public PieceType next() {
+        return pieceGenerator.next();
+    }
+}
@@ -17,16 +17,48 @@
  */
 package io.github.blockythedev.tetris;
 
+import io.github.blockythedev.tetris.bot.AutoPlayer;
+import io.github.blockythedev.tetris.bot.BeamSearch;
+import io.github.blockythedev.tetris.bot.GeneticTuner;
+import io.github.blockythedev.tetris.bot.HeuristicWeights;
+import io.github.blockythedev.tetris.constants.GameConstants;
+import io.github.blockythedev.tetris.logic.GameEngine;
 import io.github.blockythedev.tetris.logic.GameManager;
+import io.github.blockythedev.tetris.replay.Replay;
+import io.github.blockythedev.tetris.replay.ReplayPlayer;
+import io.github.blockythedev.tetris.server.DeltaServer;
+import io.github.blockythedev.tetris.server.GameServer;
+import io.github.blockythedev.tetris.server.LoadGenerator;
+import io.github.blockythedev.tetris.utils.Stats;
 import java.awt.GraphicsEnvironment;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.swing.SwingUtilities;
+import org.jetbrains.annotations.NotNull;
 
 /**
  * The main class of this project.
  */
 public class Main {
     private static final Logger logger = Logger.getLogger(Main.class.getName());
+    private static final int DEFAULT_BOT_SHAPES = 10_000;
+    private static final int DEFAULT_TUNING_GENERATIONS = 10;
+    private static final int TUNING_POPULATION_SIZE = 100;
+    private static final int TUNING_GAMES_PER_CANDIDATE = 20;
+    private static final int TUNING_MAX_SHAPES = 500;
+    private static final int DEFAULT_SERVER_PORT = 7420;
+    private static final int DEFAULT_LOAD_SESSIONS = 1000;
+    private static final int DEFAULT_LOAD_SECONDS = 10;
+    private static final int DEFAULT_LOAD_TICK_RATE = GameConstants.TICKS_PER_SECOND;
+    private static final int LOAD_INPUT_INTERVAL_MS = 100;
 
     /**
      * Prevents the constructor from being called.
@@ -43,15 +75,168 @@ public class Main {
      * Note: Do NOT call this by hand.
      * This is automatically called, when the jar application is started..
      * </p>
+     * <p>
+     * With the arguments {@code bot [shapes]}, the bot plays a game without any user interface for soak-testing a build.
+     * With the arguments {@code tune [generations] [directory]}, the weights of the bot are tuned without any user interface.
+     * With the arguments {@code replay <file>}, a recorded game is played again without any user interface.
+     * With the arguments {@code server [port]}, the {@link GameServer} hosts headless games for local clients.
+     * With the arguments {@code delta-server [port]}, the {@link DeltaServer} hosts headless games with the binary delta protocol.
+     * With the arguments {@code load [sessions] [seconds] [tickRate]}, the {@link LoadGenerator} measures an in-process server.
+     * </p>
      *
      * @param args The startup arguments
      */
     public static void main(final String[] args) {
+        if (args.length > 0 && args[0].equals("bot")) {
+            runBot(args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_BOT_SHAPES);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("tune")) {
+            runTuner(args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_TUNING_GENERATIONS, Path.of(args.length > 2 ? args[2] : "tuning"));
+            return;
+        }
+
+        if (args.length > 1 && args[0].equals("replay")) {
+            runReplay(Path.of(args[1]));
+            return;
+        }
+        if (args.length > 0 && args[0].equals("server")) {
+            runServer(args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SERVER_PORT);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("delta-server")) {
+            runDeltaServer(args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SERVER_PORT);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("load")) {
+            runLoad(args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_LOAD_SESSIONS,
+                    args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_LOAD_SECONDS,
+                    args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_LOAD_TICK_RATE);
+            return;
+        }
+
         if (GraphicsEnvironment.isHeadless()) {
-            logger.warning("Headless environments aren't supported! Please use a environment supporting a display, keyboard and mouse.");
+            logger.warning("Headless environments aren't supported by the user interface! Please use a environment supporting a display, keyboard and mouse or drive the GameEngine directly.");
             System.exit(-1);
         }
 
         SwingUtilities.invokeLater(GameManager::new);
     }
+
+    /**
+     * Lets the bot play a game as fast as possible and logs the result.
+     *
+     * @param maxShapes The maximum number of shapes to place.
+     */
+    private static void runBot(final int maxShapes) {
+        final long seed = ThreadLocalRandom.current().nextLong();
+        final GameEngine engine = new GameEngine(new Stats(), seed);
+        final BeamSearch search = new BeamSearch(ForkJoinPool.commonPool(), HeuristicWeights.DEFAULT);
+        final AutoPlayer autoPlayer = new AutoPlayer(ForkJoinPool.commonPool(), search);
+
+        final long start = System.nanoTime();
+        final int placedShapes = autoPlayer.play(engine, maxShapes);
+        final long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        logger.info(MessageFormat.format("Seed {0}: Placed {1} shapes and removed {2} lines in {3} ms (game over: {4})",
+                Long.toString(seed), placedShapes, engine.getStats().getRemovedLines(), durationMs, engine.isGameOver()));
+        logger.info(MessageFormat.format("Searched {0} nodes at {1,number,#} nodes/s with {2} transposition table hits and {3} misses",
+                search.getNodes(), search.getNodesPerSecond(), search.getTable().getHits(), search.getTable().getMisses()));
+    }
+
+    /**
+     * Tunes the weights of the bot and writes the results to a directory.
+     *
+     * @param generations The number of generations.
+     * @param directory The directory to write the best weights and the fitness log to.
+     */
+    private static void runTuner(final int generations, final @NotNull Path directory) {
+        final GeneticTuner tuner = new GeneticTuner(ForkJoinPool.commonPool(), TUNING_POPULATION_SIZE, TUNING_GAMES_PER_CANDIDATE,
+                TUNING_MAX_SHAPES, ThreadLocalRandom.current().nextLong());
+        try {
+            Files.createDirectories(directory);
+            final long start = System.nanoTime();
+            final HeuristicWeights best = tuner.tune(generations, directory.resolve("weights.properties"), directory.resolve("generations.csv"));
+            logger.info(MessageFormat.format("Tuned the weights {0} in {1} ms", best, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+        } catch (final IOException e) {
+            logger.log(Level.SEVERE, "Failed to write the tuning results", e);
+            System.exit(-1);
+        }
+    }
+
+    /**
+     * Plays a recorded game again and logs the result.
+     *
+     * @param path The path of the replay file.
+     */
+    private static void runReplay(final @NotNull Path path) {
+        try {
+            final Replay replay = Replay.open(path);
+            final GameEngine engine = new GameEngine(new Stats(), replay.getSeed());
+            new ReplayPlayer(replay, engine).playToEnd();
+            logger.info(MessageFormat.format("Replayed {0} ticks with {1} keyframes and removed {2} lines (game over: {3})",
+                    engine.getTickCount(), replay.getKeyframeCount(), engine.getStats().getRemovedLines(), engine.isGameOver()));
+        } catch (final IOException e) {
+            logger.log(Level.SEVERE, "Failed to read the replay", e);
+            System.exit(-1);
+        }
+    }
+
+    /**
+     * Runs the game server, until the process is stopped.
+     *
+     * @param port The port of the server.
+     */
+    private static void runServer(final int port) {
+        try {
+            final GameServer server = new GameServer(port, TimeUnit.SECONDS.toNanos(1) / GameConstants.TICKS_PER_SECOND);
+            server.start();
+            logger.info(MessageFormat.format("The server is listening on port {0,number,#}", server.getPort()));
+            Thread.currentThread().join();
+        } catch (final IOException e) {
+            logger.log(Level.SEVERE, "Failed to start the server", e);
+            System.exit(-1);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs the delta server on the current thread, until the process is stopped.
+     *
+     * @param port The port of the server.
+     */
+    private static void runDeltaServer(final int port) {
+        try {
+            final DeltaServer server = new DeltaServer(port, TimeUnit.SECONDS.toNanos(1) / GameConstants.TICKS_PER_SECOND);
+            logger.info(MessageFormat.format("The delta server is listening on port {0,number,#}", server.getPort()));
+            server.run();
+        } catch (final IOException e) {
+            logger.log(Level.SEVERE, "Failed to start the delta server", e);
+            System.exit(-1);
+        }
+    }
+
+    /**
+     * Measures an in-process server under the load of many clients and logs the result.
+     *
+     * @param sessions The number of concurrent sessions.
+     * @param seconds The duration of the measurement.
+     * @param tickRate The ticks per second of every game.
+     */
+    private static void runLoad(final int sessions, final int seconds, final int tickRate) {
+        try (final GameServer server = new GameServer(0, TimeUnit.SECONDS.toNanos(1) / tickRate)) {
+            server.start();
+            final LoadGenerator.Report report = new LoadGenerator(sessions, TimeUnit.MILLISECONDS.toNanos(LOAD_INPUT_INTERVAL_MS))
+                    .run(server, Duration.ofSeconds(seconds));
+            logger.info(MessageFormat.format("{0} sessions at {1} ticks/s on {2} cores ({3,number,#.#} sessions/core) for {4,number,#.#} s",
+                    report.sessions(), tickRate, report.processors(), report.getSessionsPerCore(), report.seconds()));
+            logger.info(MessageFormat.format("Tick latency: p50 {0,number,#.###} ms, p99 {1,number,#.###} ms, max {2,number,#.###} ms over {3} ticks",
+                    report.tickP50() / 1e6, report.tickP99() / 1e6, report.tickMax() / 1e6, report.ticks()));
+            logger.info(MessageFormat.format("Requests: {0} with a p99 round trip of {1,number,#.###} ms",
+                    report.requests(), report.requestP99() / 1e6));
+        } catch (final IOException e) {
+            logger.log(Level.SEVERE, "Failed to run the load test", e);
+            System.exit(-1);
+        }
+    }
 }
@@ -0,0 +1,174 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.bot;
+
+import io.github.blockythedev.tetris.logic.Board;
+import io.github.blockythedev.tetris.logic.GameEngine;
+import io.github.blockythedev.tetris.logic.GameLoop;
+import io.github.blockythedev.tetris.logic.Input;
+import io.github.blockythedev.tetris.shapes.PieceType;
+import io.github.blockythedev.tetris.utils.Rotation;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A bot playing the game by itself.
+ * <p>
+ * The placement of the current shape is chosen by a {@link PlacementStrategy}
+ * and applied with the same {@link Input inputs} a player would use.
+ * </p>
+ */
+public class AutoPlayer {
+    private static final Logger logger = Logger.getLogger(AutoPlayer.class.getName());
+    private static final int ROTATIONS = Rotation.values().length;
+
+    private final ForkJoinPool pool;
+    private final PlacementStrategy strategy;
+
+    /**
+     * Constructs an {@link AutoPlayer}.
+     *
+     * @param pool The pool to run the background searches on.
+     * @param strategy The strategy choosing the placements.
+     */
+    public AutoPlayer(final @NotNull ForkJoinPool pool, final @NotNull PlacementStrategy strategy) {
+        this.pool = pool;
+        this.strategy = strategy;
+    }
+
+    /**
+     * Searches the best placement of the current shape and waits for the result.
+     * <p>
+     * Note: This must be called on the thread driving the engine of the board.
+     * </p>
+     *
+     * @param board The board to search on.
+     * @return Returns the best placement or {@code null}, if there is no current shape.
+     */
+    public @Nullable Placement findPlacement(final @NotNull Board board) {
+        final BoardSnapshot snapshot = BoardSnapshot.of(board);
+        return snapshot == null ? null : strategy.findPlacement(snapshot);
+    }
+
+    /**
+     * Searches the best placement of the current shape in the background and applies it on the game loop.
+     * <p>
+     * The placement is dropped, if the shape was locked in the meantime.
+     * If the shape has moved during the search, e.g. because it has fallen, the placement may not be reachable anymore,
+     * so that a new search is started from the current position of the shape.
+     * Note: This must be called on the thread of the game loop.
+     * </p>
+     *
+     * @param engine The game engine driven by the game loop.
+     * @param gameLoop The game loop.
+     */
+    public void requestPlacement(final @NotNull GameEngine engine, final @NotNull GameLoop gameLoop) {
+        final Board board = engine.getBoard();
+        final BoardSnapshot snapshot = BoardSnapshot.of(board);
+        if (snapshot == null) {
+            return;
+        }
+
+        final PieceType shape = snapshot.shape();
+        final int generation = board.getGeneration();
+        CompletableFuture.supplyAsync(() -> strategy.findPlacement(snapshot), pool).whenComplete((placement, throwable) -> {
+            if (throwable != null) {
+                logger.log(Level.SEVERE, "The placement search failed", throwable);
+                return;
+            }
+            gameLoop.execute(() -> {
+                if (placement == null || board.getGeneration() != generation || board.getCurrentShape() != shape) {
+                    return;
+                }
+                if (board.getPosX() != snapshot.posX() || board.getPosY() != snapshot.posY() || board.getRotation() != snapshot.rotation()) {
+                    requestPlacement(engine, gameLoop);
+                    return;
+                }
+                applyPlacement(engine, placement);
+            });
+        });
+    }
+
+    /**
+     * Plays the game until it is over or the given number of shapes has been placed.
+     * <p>
+     * Note: The engine is driven by the calling thread without any delay.
+     * </p>
+     *
+     * @param engine The game engine to play.
+     * @param maxShapes The maximum number of shapes to place.
+     * @return Returns the number of placed shapes.
+     * @throws IllegalStateException Thrown, when the game is paused.
+     */
+    public int play(final @NotNull GameEngine engine, final int maxShapes) {
+        if (engine.isPaused()) {
+            throw new IllegalStateException("The game is paused");
+        }
+
+        int placedShapes = 0;
+        while (!engine.isGameOver() && placedShapes < maxShapes) {
+            if (engine.getBoard().getCurrentShape() == null) {
+                // spawns the next shape
+                engine.step();
+                continue;
+            }
+
+            final Placement placement = findPlacement(engine.getBoard());
+            if (placement == null) {
+                // every placement tops out, so the shape is dropped where it is
+                engine.applyInput(Input.DROP);
+                placedShapes++;
+                continue;
+            }
+            applyPlacement(engine, placement);
+            placedShapes++;
+        }
+        return placedShapes;
+    }
+
+    /**
+     * Applies a placement to the current shape by rotating, moving and dropping it.
+     *
+     * @param engine The game engine.
+     * @param placement The placement to apply.
+     */
+    public static void applyPlacement(final @NotNull GameEngine engine, final @NotNull Placement placement) {
+        final Board board = engine.getBoard();
+        final int clockwiseSteps = (placement.rotation().ordinal() - board.getRotation().ordinal() + ROTATIONS) % ROTATIONS;
+        // rotates into the shorter direction, like the search does
+        if (clockwiseSteps <= ROTATIONS / 2) {
+            for (int i = 0; i < clockwiseSteps; i++) {
+                engine.applyInput(Input.ROTATE_CLOCKWISE);
+            }
+        } else {
+            for (int i = clockwiseSteps; i < ROTATIONS; i++) {
+                engine.applyInput(Input.ROTATE_ANTI_CLOCKWISE);
+            }
+        }
+
+        final Input move = placement.posX() < board.getPosX() ? Input.MOVE_LEFT : Input.MOVE_RIGHT;
+        for (int i = Math.abs(placement.posX() - board.getPosX()); i > 0; i--) {
+            engine.applyInput(move);
+        }
+        engine.applyInput(Input.DROP);
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.bot;
+
+import io.github.blockythedev.tetris.constants.GameConstants;
+import io.github.blockythedev.tetris.shapes.PieceType;
+import io.github.blockythedev.tetris.utils.Rotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A strategy searching the placements of the current shape and the shapes of the preview with a beam search.
+ * <p>
+ * Every layer of the search places one shape on all boards of the beam.
+ * The resulting boards are expanded in parallel, merged, if they lead to the same state, and only the best ones are kept.
+ * The placement of the current shape leading to the best board of the last layer is chosen.
+ * </p>
+ * <p>
+ * A search state is identified by the Zobrist hash of the board and the shape placed next.
+ * The heuristic scores of the boards are cached in a {@link TranspositionTable},
+ * which is kept between searches, as the following search revisits most states of the previous one.
+ * </p>
+ */
+public class BeamSearch implements PlacementStrategy {
+    /**
+     * The default number of boards kept per layer.
+     */
+    public static final int DEFAULT_BEAM_WIDTH = 16;
+    /**
+     * The default number of capacity bits of the transposition table.
+     */
+    public static final int DEFAULT_TABLE_CAPACITY_BITS = 16;
+
+    private static final Comparator<Node> BEST_FIRST = Comparator.comparingDouble(Node::score).reversed();
+
+    private final ForkJoinPool pool;
+    private final HeuristicWeights weights;
+    private final int beamWidth;
+    private final int depth;
+    private final TranspositionTable table;
+    private final LongAdder nodes;
+    private final LongAdder searchNanos;
+
+    /**
+     * Constructs a {@link BeamSearch} over the current shape and the whole preview with the default settings.
+     *
+     * @param pool The pool to expand the boards on.
+     * @param weights The weights of the heuristic.
+     */
+    public BeamSearch(final @NotNull ForkJoinPool pool, final @NotNull HeuristicWeights weights) {
+        this(pool, weights, DEFAULT_BEAM_WIDTH, 1 + GameConstants.PREVIEW_PIECES, new TranspositionTable(DEFAULT_TABLE_CAPACITY_BITS));
+    }
+
+    /**
+     * Constructs a {@link BeamSearch}.
+     *
+     * @param pool The pool to expand the boards on.
+     * @param weights The weights of the heuristic.
+     * @param beamWidth The number of boards kept per layer.
+     * @param depth The number of shapes to place, which is limited by the preview size.
+     * @param table The transposition table to cache the scores in.
+     */
+    public BeamSearch(final @NotNull ForkJoinPool pool, final @NotNull HeuristicWeights weights, final int beamWidth, final int depth, final @NotNull TranspositionTable table) {
+        if (beamWidth < 1 || depth < 1) {
+            throw new IllegalArgumentException("The beam width and depth must be at least 1");
+        }
+        this.pool = pool;
+        this.weights = weights;
+        this.beamWidth = beamWidth;
+        this.depth = depth;
+        this.table = table;
+        nodes = new LongAdder();
+        searchNanos = new LongAdder();
+    }
+
+    @Override
+    public @Nullable Placement findPlacement(final @NotNull BoardSnapshot snapshot) {
+        final long start = System.nanoTime();
+        final int layers = Math.min(depth, 1 + snapshot.preview().length);
+
+        List<Node> beam = List.of(new Node(snapshot.occupancy(), 0, -1, 0, 0));
+        for (int layer = 0; layer < layers; layer++) {
+            final boolean first = layer == 0;
+            final PieceType shape = first ? snapshot.shape() : snapshot.preview()[layer - 1];
+            final PieceType nextShape = layer + 1 < layers ? snapshot.preview()[layer] : null;
+            final List<Node> parents = beam;
+            final List<Node> children = pool.submit(() -> parents.parallelStream()
+                    .flatMap(parent -> first
+                            ? expand(parent, snapshot.columnHeights(), shape, snapshot.rotation(), snapshot.posX(), snapshot.posY(), nextShape).stream()
+                            : expand(parent, null, shape, Rotation.NORMAL, BoardSimulation.getSpawnPosX(shape), 0, nextShape).stream())
+                    .toList()).join();
+            if (children.isEmpty()) {
+                // every board of this layer tops out, so the best board of the previous layer is used
+                break;
+            }
+            beam = select(children);
+        }
+
+        searchNanos.add(System.nanoTime() - start);
+        final Node best = beam.get(0);
+        if (best.firstPlacement() < 0) {
+            return null;
+        }
+        return new Placement(BoardSimulation.getRotation(best.firstPlacement()), BoardSimulation.getPosX(best.firstPlacement()), best.score());
+    }
+
+    /**
+     * Places a shape on a board in all reachable ways.
+     *
+     * @param parent The board to place the shape on.
+     * @param columnHeights The column heights of the board or {@code null}, if they must be calculated.
+     * @param shape The shape to place.
+     * @param rotation The rotation of the shape.
+     * @param posX The X-position of the shape.
+     * @param posY The Y-position of the shape.
+     * @param nextShape The shape placed after this one or {@code null}, if this is the last layer.
+     * @return Returns the resulting boards, except the ones where the next shape cannot spawn.
+     */
+    private @NotNull List<Node> expand(final @NotNull Node parent, final int @Nullable[] columnHeights, final @NotNull PieceType shape,
+                                       final @NotNull Rotation rotation, final int posX, final int posY, final @Nullable PieceType nextShape) {
+        if (!BoardSimulation.isPlaceable(parent.occupancy(), shape, rotation, posX, posY)) {
+            return List.of();
+        }
+
+        int[] heights = columnHeights;
+        if (heights == null) {
+            heights = new int[GameConstants.COLUMNS];
+            BoardSimulation.fillColumnHeights(parent.occupancy(), heights);
+        }
+        final int[] placements = new int[BoardSimulation.MAX_PLACEMENTS];
+        final int count = BoardSimulation.findPlacements(parent.occupancy(), shape, rotation, posX, posY, placements);
+        final long nextShapeHash = nextShape == null ? 0 : Zobrist.hashShape(nextShape, Rotation.NORMAL);
+
+        final List<Node> children = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final Rotation placementRotation = BoardSimulation.getRotation(placements[i]);
+            final int placementPosX = BoardSimulation.getPosX(placements[i]);
+            final int[] board = parent.occupancy().clone();
+            final int landingPosY = BoardSimulation.getLandingPosY(board, heights, shape, placementRotation, placementPosX, posY);
+            final int clearedLines = parent.clearedLines() + BoardSimulation.lock(board, shape, placementRotation, placementPosX, landingPosY);
+            if (nextShape != null && !BoardSimulation.isPlaceable(board, nextShape, Rotation.NORMAL, BoardSimulation.getSpawnPosX(nextShape), 0)) {
+                continue;
+            }
+
+            final long hash = Zobrist.hashBoard(board) ^ nextShapeHash;
+            double boardScore = table.get(hash);
+            if (Double.isNaN(boardScore)) {
+                // the removed lines depend on the path to the board, so only the board itself is cached
+                boardScore = BoardSimulation.evaluate(board, 0, weights);
+                table.put(hash, boardScore);
+            }
+            children.add(new Node(board, hash, parent.firstPlacement() < 0 ? placements[i] : parent.firstPlacement(),
+                    clearedLines, boardScore + weights.clearedLines() * clearedLines));
+        }
+        nodes.add(count);
+        return children;
+    }
+
+    /**
+     * Selects the best boards of a layer, where boards with the same state are only kept once.
+     *
+     * @param children The boards of the layer.
+     * @return Returns up to beam width boards, starting with the best one.
+     */
+    private @NotNull List<Node> select(final @NotNull List<Node> children) {
+        final Map<Long, Node> states = new HashMap<>(children.size() * 2);
+        for (final Node child : children) {
+            states.merge(child.hash(), child, (a, b) -> BEST_FIRST.compare(a, b) <= 0 ? a : b);
+        }
+        final Node[] selected = states.values().toArray(new Node[0]);
+        Arrays.sort(selected, BEST_FIRST);
+        return Arrays.asList(Arrays.copyOf(selected, Math.min(beamWidth, selected.length)));
+    }
+
+    /**
+     * Gets the number of boards evaluated per second of search time.
+     *
+     * @return Returns the throughput or {@code 0}, if nothing was searched yet.
+     */
+    public double getNodesPerSecond() {
+        final long nanos = searchNanos.sum();
+        return nanos == 0 ? 0 : nodes.sum() * 1e9 / nanos;
+    }
+
+    /**
+     * Gets the number of evaluated boards.
+     *
+     * @return Returns the number of nodes.
+     */
+    public long getNodes() {
+        return nodes.sum();
+    }
+
+    /**
+     * Gets the transposition table.
+     *
+     * @return Returns the transposition table.
+     */
+    public @NotNull TranspositionTable getTable() {
+        return table;
+    }
+
+    /**
+     * Represents a board of the search.
+     *
+     * @param occupancy The occupancy masks of the board.
+     * @param hash The Zobrist hash of the board and the shape placed next.
+     * @param firstPlacement The encoded placement of the current shape leading to this board or {@code -1} for the root.
+     * @param clearedLines The number of lines removed on the way to this board.
+     * @param score The heuristic score of the board.
+     */
+    private record Node(int @NotNull[] occupancy, long hash, int firstPlacement, int clearedLines, double score) {
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.bot;
+
+import io.github.blockythedev.tetris.constants.GameConstants;
+import io.github.blockythedev.tetris.shapes.PieceType;
+import io.github.blockythedev.tetris.utils.Rotation;
+import io.github.blockythedev.tetris.utils.Utils;
+import java.util.Arrays;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A final class containing the board operations of the bot, which work on copies of the occupancy masks of a board.
+ * <p>
+ * The masks use the same layout as {@link io.github.blockythedev.tetris.logic.Board#getOccupancy()},
+ * so that placements can be simulated without touching the game itself.
+ * A placement is encoded as {@code rotation * COLUMNS + posX}.
+ * </p>
+ */
+public final class BoardSimulation {
+    /**
+     * The maximum number of placements of a shape.
+     */
+    public static final int MAX_PLACEMENTS = Rotation.values().length * GameConstants.COLUMNS;
+
+    private static final Rotation[] ROTATIONS = Rotation.values();
+
+    /**
+     * Prevents the constructor from being called.
+     *
+     * @throws UnsupportedOperationException Thrown, when the constructor gets called.
+     */
+    private BoardSimulation() {
+        throw new UnsupportedOperationException("Cannot instantiate class");
+    }
+
+    /**
+     * Gets the X-position, where a new shape spawns at the top of the board.
+     *
+     * @param shape The piece type of the shape.
+     * @return Returns the X-position of the shape with the normal rotation.
+     */
+    public static int getSpawnPosX(final @NotNull PieceType shape) {
+        return (GameConstants.COLUMNS / 2) - (shape.getWidth(Rotation.NORMAL) / 2);
+    }
+
+    /**
+     * Checks if the shape is placeable at this location.
+     *
+     * @param occupancy The occupancy masks of the board.
+     * @param shape The piece type of the shape.
+     * @param rotation The rotation of the shape.
+     * @param posX The X-position to check.
+     * @param posY The Y-position to check.
+     * @return Returns {@code true} if the shape is placeable at this location, else {@code false}.
+     */
+    public static boolean isPlaceable(final int @NotNull[] occupancy, final @NotNull PieceType shape, final @NotNull Rotation rotation, final int posX, final int posY) {
+        final int[] rowMasks = shape.getRowMasks(rotation);
+        if (posX < 0 || posY < 0 || occupancy.length < posY + rowMasks.length) {
+            return false;
+        }
+
+        for (int row = 0; row < rowMasks.length; row++) {
+            final int shiftedMask = rowMasks[row] << posX;
+            if ((shiftedMask & ~GameConstants.FULL_LINE_MASK) != 0 || (shiftedMask & occupancy[posY + row]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calculates the height of the highest block per column.
+     *
+     * @param occupancy The occupancy masks of the board.
+     * @param columnHeights The array to store the heights in.
+     */
+    public static void fillColumnHeights(final int @NotNull[] occupancy, final int @NotNull[] columnHeights) {
+        Arrays.fill(columnHeights, 0);
+        int seen = 0;
+        for (int line = 0; line < occupancy.length && seen != GameConstants.FULL_LINE_MASK; line++) {
+            // only the columns reached for the first time get their height
+            int columns = occupancy[line] & ~seen;
+            while (columns != 0) {
+                columnHeights[Integer.numberOfTrailingZeros(columns)] = occupancy.length - line;
+                columns &= columns - 1;
+            }
+            seen |= occupancy[line];
+        }
+    }
+
+    /**
+     * Gets the Y-position, where a shape would land, when it is dropped down.
+     *
+     * @param occupancy The occupancy masks of the board.
+     * @param columnHeights The height of the highest block per column.
+     * @param shape The piece type of the shape.
+     * @param rotation The rotation of the shape.
+     * @param posX The X-position of the shape.
+     * @param posY The Y-position of the shape, where it is placeable.
+     * @return Returns the Y-position of the landed shape.
+     * @see io.github.blockythedev.tetris.logic.Board#getLandingPosY(PieceType, Rotation, int, int)
+     */
+    public static int getLandingPosY(final int @NotNull[] occupancy, final int @NotNull[] columnHeights, final @NotNull PieceType shape, final @NotNull Rotation rotation, final int posX, final int posY) {
+        final int[] bottomProfile = shape.getBottomProfile(rotation);
+        int landingPosY = occupancy.length;
+        for (int column = 0; column < bottomProfile.length; column++) {
+            if (bottomProfile[column] >= 0) {
+                landingPosY = Math.min(landingPosY, occupancy.length - columnHeights[posX + column] - 1 - bottomProfile[column]);
+            }
+        }
+        if (landingPosY >= posY) {
+            return landingPosY;
+        }
+
+        // the shape is below the skyline, so the lines are probed one by one
+        landingPosY = posY;
+        while (isPlaceable(occupancy, shape, rotation, posX, landingPosY + 1)) {
+            landingPosY++;
+        }
+        return landingPosY;
+    }
+
+    /**
+     * Locks a shape into the board and removes the full lines.
+     *
+     * @param occupancy The occupancy masks of the board.
+     * @param shape The piece type of the shape.
+     * @param rotation The rotation of the shape.
+     * @param posX The X-position of the shape.
+     * @param posY The Y-position of the shape.
+     * @return Returns the number of removed lines.
+     */
+    public static int lock(final int @NotNull[] occupancy, final @NotNull PieceType shape, final @NotNull Rotation rotation, final int posX, final int posY) {
+        final int[] rowMasks = shape.getRowMasks(rotation);
+        boolean full = false;
+        for (int row = 0; row < rowMasks.length; row++) {
+            occupancy[posY + row] |= rowMasks[row] << posX;
+            full |= Utils.isFull(occupancy[posY + row]);
+        }
+        if (!full) {
+            return 0;
+        }
+
+        // compacts the remaining lines from the bottom up
+        int target = occupancy.length - 1;
+        for (int line = occupancy.length - 1; line >= 0; line--) {
+            if (!Utils.isFull(occupancy[line])) {
+                occupancy[target--] = occupancy[line];
+            }
+        }
+        final int removedLines = target + 1;
+        Arrays.fill(occupancy, 0, removedLines, 0);
+        return removedLines;
+    }
+
+    /**
+     * Scores a board with the heuristic.
+     *
+     * @param occupancy The occupancy masks of the board.
+     * @param clearedLines The number of lines removed to reach this board.
+     * @param weights The weights of the heuristic.
+     * @return Returns the score, where a higher score is better.
+     */
+    public static double evaluate(final int @NotNull[] occupancy, final int clearedLines, final @NotNull HeuristicWeights weights) {
+        int holes = 0;
+        int seen = 0;
+        for (final int line : occupancy) {
+            // empty cells below a block of the same column
+            holes += Integer.bitCount(seen & ~line);
+            seen |= line;
+        }
+
+        int aggregateHeight = 0;
+        int bumpiness = 0;
+        int previousHeight = -1;
+        for (int column = 0; column < GameConstants.COLUMNS; column++) {
+            final int columnMask = 1 << column;
+            int height = 0;
+            for (int line = 0; line < occupancy.length; line++) {
+                if ((occupancy[line] & columnMask) != 0) {
+                    height = occupancy.length - line;
+                    break;
+                }
+            }
+            aggregateHeight += height;
+            if (previousHeight >= 0) {
+                bumpiness += Math.abs(height - previousHeight);
+            }
+            previousHeight = height;
+        }
+        return weights.score(holes, aggregateHeight, bumpiness, clearedLines);
+    }
+
+    /**
+     * Finds all placements of a shape, which are reachable from its current location by rotating and then moving it.
+     * <p>
+     * Rotations resulting in the same shape, e.g. of the square, are only listed once.
+     * </p>
+     *
+     * @param occupancy The occupancy masks of the board.
+     * @param shape The piece type of the shape.
+     * @param rotation The current rotation of the shape.
+     * @param posX The current X-position of the shape.
+     * @param posY The current Y-position of the shape.
+     * @param placements The array of at least {@link #MAX_PLACEMENTS} elements to store the encoded placements in.
+     * @return Returns the number of found placements.
+     */
+    public static int findPlacements(final int @NotNull[] occupancy, final @NotNull PieceType shape, final @NotNull Rotation rotation, final int posX, final int posY, final int @NotNull[] placements) {
+        int count = 0;
+        rotations:
+        for (int steps = 0; steps < ROTATIONS.length; steps++) {
+            final Rotation targetRotation = ROTATIONS[(rotation.ordinal() + steps) % ROTATIONS.length];
+            for (int previousSteps = 0; previousSteps < steps; previousSteps++) {
+                if (Arrays.equals(shape.getRowMasks(targetRotation), shape.getRowMasks(ROTATIONS[(rotation.ordinal() + previousSteps) % ROTATIONS.length]))) {
+                    continue rotations;
+                }
+            }
+            if (!isRotationReachable(occupancy, shape, rotation, steps, posX, posY)) {
+                continue;
+            }
+
+            final int base = targetRotation.ordinal() * GameConstants.COLUMNS;
+            placements[count++] = base + posX;
+            for (int x = posX - 1; isPlaceable(occupancy, shape, targetRotation, x, posY); x--) {
+                placements[count++] = base + x;
+            }
+            for (int x = posX + 1; isPlaceable(occupancy, shape, targetRotation, x, posY); x++) {
+                placements[count++] = base + x;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks if the rotation is reachable by rotating the shape in the shorter direction.
+     *
+     * @param occupancy The occupancy masks of the board.
+     * @param shape The piece type of the shape.
+     * @param rotation The current rotation of the shape.
+     * @param clockwiseSteps The number of clockwise rotations to reach the target rotation.
+     * @param posX The X-position of the shape.
+     * @param posY The Y-position of the shape.
+     * @return Returns {@code true} if every rotation on the way is placeable, else {@code false}.
+     */
+    private static boolean isRotationReachable(final int @NotNull[] occupancy, final @NotNull PieceType shape, final @NotNull Rotation rotation, final int clockwiseSteps, final int posX, final int posY) {
+        final boolean clockwise = clockwiseSteps <= ROTATIONS.length / 2;
+        final int steps = clockwise ? clockwiseSteps : ROTATIONS.length - clockwiseSteps;
+        Rotation current = rotation;
+        for (int step = 0; step < steps; step++) {
+            current = clockwise ? current.next() : current.previous();
+            if (!isPlaceable(occupancy, shape, current, posX, posY)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the rotation of an encoded placement.
+     *
+     * @param placement The encoded placement.
+     * @return Returns the rotation.
+     */
+    public static @NotNull Rotation getRotation(final int placement) {
+        return ROTATIONS[placement / GameConstants.COLUMNS];
+    }
+
+    /**
+     * Gets the X-position of an encoded placement.
+     *
+     * @param placement The encoded placement.
+     * @return Returns the X-position.
+     */
+    public static int getPosX(final int placement) {
+        return placement % GameConstants.COLUMNS;
+    }
+}
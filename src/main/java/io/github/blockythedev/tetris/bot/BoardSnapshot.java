@@ -0,0 +1,63 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.bot;
+
+import io.github.blockythedev.tetris.logic.Board;
+import io.github.blockythedev.tetris.shapes.PieceType;
+import io.github.blockythedev.tetris.utils.PieceGenerator;
+import io.github.blockythedev.tetris.utils.Rotation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A copy of the board state searched by the bot, which can be used on any thread.
+ *
+ * @param occupancy The occupancy masks of the board.
+ * @param columnHeights The height of the highest block per column.
+ * @param shape The current shape.
+ * @param rotation The rotation of the current shape.
+ * @param posX The X-position of the current shape.
+ * @param posY The Y-position of the current shape.
+ * @param preview The upcoming shapes.
+ */
+public record BoardSnapshot(int @NotNull[] occupancy, int @NotNull[] columnHeights, @NotNull PieceType shape, @NotNull Rotation rotation,
+                            int posX, int posY, @NotNull PieceType @NotNull[] preview) {
+    /**
+     * Copies the state of a board.
+     * <p>
+     * Note: This must be called on the thread driving the engine of the board.
+     * </p>
+     *
+     * @param board The board to copy.
+     * @return Returns the snapshot or {@code null}, if there is no current shape.
+     */
+    public static @Nullable BoardSnapshot of(final @NotNull Board board) {
+        final PieceType shape = board.getCurrentShape();
+        if (shape == null) {
+            return null;
+        }
+
+        final PieceGenerator pieceGenerator = board.getPieceGenerator();
+        final PieceType[] preview = new PieceType[pieceGenerator.getPreviewSize()];
+        for (int i = 0; i < preview.length; i++) {
+            preview[i] = pieceGenerator.peek(i);
+        }
+        return new BoardSnapshot(board.getOccupancy().clone(), board.getColumnHeights().clone(), shape, board.getRotation(),
+                board.getPosX(), board.getPosY(), preview);
+    }
+}
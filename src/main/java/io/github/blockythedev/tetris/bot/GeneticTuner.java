@@ -0,0 +1,279 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.bot;
+
+import io.github.blockythedev.tetris.logic.GameEngine;
+import io.github.blockythedev.tetris.utils.Stats;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A headless tool evolving the weights of the heuristic with a genetic algorithm.
+ * <p>
+ * Every candidate of a generation plays the same seeded games, so that the candidates are compared fairly.
+ * All games of a generation are played in parallel on the pool, the bot itself searches without lookahead.
+ * The fitness of a candidate is the number of lines it removed over all its games.
+ * </p>
+ * <p>
+ * After each generation, the weakest candidates are replaced by offspring of tournament winners.
+ * The weight vectors are normalized to unit length, as only their direction changes the chosen placements.
+ * </p>
+ */
+public class GeneticTuner {
+    /**
+     * The probability of mutating an offspring.
+     */
+    private static final double MUTATION_RATE = 0.05;
+    /**
+     * The maximum change of a mutated weight.
+     */
+    private static final double MUTATION_STEP = 0.2;
+    /**
+     * The part of the population taking part in a tournament.
+     */
+    private static final double TOURNAMENT_FRACTION = 0.1;
+    /**
+     * The part of the population replaced by offspring after each generation.
+     */
+    private static final double REPLACEMENT_FRACTION = 0.3;
+
+    private final ForkJoinPool pool;
+    private final int populationSize;
+    private final int gamesPerCandidate;
+    private final int maxShapes;
+    private final SplittableRandom random;
+
+    /**
+     * Constructs a {@link GeneticTuner}.
+     *
+     * @param pool The pool to play the games on.
+     * @param populationSize The number of candidates per generation.
+     * @param gamesPerCandidate The number of games played by every candidate per generation.
+     * @param maxShapes The maximum number of shapes placed per game.
+     * @param seed The seed of the initial population, the mutations and the game seeds.
+     */
+    public GeneticTuner(final @NotNull ForkJoinPool pool, final int populationSize, final int gamesPerCandidate, final int maxShapes, final long seed) {
+        if (populationSize < 2) {
+            throw new IllegalArgumentException("The population size must be at least 2");
+        }
+        this.pool = pool;
+        this.populationSize = populationSize;
+        this.gamesPerCandidate = gamesPerCandidate;
+        this.maxShapes = maxShapes;
+        random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Evolves the weights over the given number of generations.
+     * <p>
+     * The fitness of every generation is appended to the log file as CSV, which is flushed after each generation.
+     * The best weights of the last generation are written to the weights file.
+     * </p>
+     *
+     * @param generations The number of generations.
+     * @param weightsFile The file to write the best weights to.
+     * @param logFile The file to write the fitness per generation to.
+     * @return Returns the best weights.
+     * @throws IOException Thrown, when a file could not be written.
+     */
+    public @NotNull HeuristicWeights tune(final int generations, final @NotNull Path weightsFile, final @NotNull Path logFile) throws IOException {
+        final HeuristicWeights[] population = new HeuristicWeights[populationSize];
+        for (int i = 0; i < population.length; i++) {
+            population[i] = normalize(random.nextDouble(-1, 1), random.nextDouble(-1, 1), random.nextDouble(-1, 1), random.nextDouble(-1, 1));
+        }
+
+        final Candidate[] candidates = new Candidate[populationSize];
+        try (BufferedWriter log = Files.newBufferedWriter(logFile)) {
+            log.write("generation,best,mean,worst,holes,aggregateHeight,bumpiness,clearedLines");
+            log.newLine();
+
+            for (int generation = 0; generation < generations; generation++) {
+                final long[] seeds = new long[gamesPerCandidate];
+                for (int i = 0; i < seeds.length; i++) {
+                    seeds[i] = random.nextLong();
+                }
+
+                final int[] fitness = evaluate(population, seeds);
+                for (int i = 0; i < candidates.length; i++) {
+                    candidates[i] = new Candidate(population[i], fitness[i]);
+                }
+                // the best candidate first
+                Arrays.sort(candidates, Comparator.comparingInt(Candidate::fitness).reversed());
+                writeGeneration(log, generation, candidates);
+
+                if (generation < generations - 1) {
+                    breed(candidates, population);
+                }
+            }
+        }
+
+        final HeuristicWeights best = candidates[0].weights();
+        try (Writer writer = Files.newBufferedWriter(weightsFile)) {
+            best.toProperties().store(writer, "Best weights of the genetic tuning with a fitness of " + candidates[0].fitness());
+        }
+        return best;
+    }
+
+    /**
+     * Plays all games of a generation in parallel.
+     *
+     * @param population The candidates of the generation.
+     * @param seeds The seeds of the games played by every candidate.
+     * @return Returns the number of removed lines per candidate.
+     */
+    private int @NotNull[] evaluate(final @NotNull HeuristicWeights @NotNull[] population, final long @NotNull[] seeds) {
+        final int[] removedLines = pool.submit(() -> IntStream.range(0, population.length * seeds.length)
+                .parallel()
+                .map(game -> playGame(population[game / seeds.length], seeds[game % seeds.length]))
+                .toArray()).join();
+
+        final int[] fitness = new int[population.length];
+        for (int game = 0; game < removedLines.length; game++) {
+            fitness[game / seeds.length] += removedLines[game];
+        }
+        return fitness;
+    }
+
+    /**
+     * Plays a single game.
+     *
+     * @param weights The weights of the candidate.
+     * @param seed The seed of the game.
+     * @return Returns the number of removed lines.
+     */
+    private int playGame(final @NotNull HeuristicWeights weights, final long seed) {
+        final GameEngine engine = new GameEngine(new Stats(), seed);
+        new AutoPlayer(pool, new GreedySearch(pool, weights, false)).play(engine, maxShapes);
+        return engine.getStats().getRemovedLines();
+    }
+
+    /**
+     * Replaces the weakest candidates of the population by offspring.
+     *
+     * @param candidates The evaluated candidates sorted by their fitness, starting with the best one.
+     * @param population The population to write the next generation to.
+     */
+    private void breed(final @NotNull Candidate @NotNull[] candidates, final @NotNull HeuristicWeights @NotNull[] population) {
+        final int replaced = Math.max(1, (int) (candidates.length * REPLACEMENT_FRACTION));
+        final int survivors = candidates.length - replaced;
+        for (int i = 0; i < survivors; i++) {
+            population[i] = candidates[i].weights();
+        }
+        for (int i = survivors; i < population.length; i++) {
+            population[i] = crossover(selectParent(candidates), selectParent(candidates));
+        }
+    }
+
+    /**
+     * Selects the best candidate of a random tournament.
+     *
+     * @param candidates The evaluated candidates sorted by their fitness, starting with the best one.
+     * @return Returns the winner of the tournament.
+     */
+    private @NotNull Candidate selectParent(final @NotNull Candidate @NotNull[] candidates) {
+        final int tournamentSize = Math.max(2, (int) (candidates.length * TOURNAMENT_FRACTION));
+        // as the candidates are sorted, the lowest drawn index is the winner
+        int winner = candidates.length - 1;
+        for (int i = 0; i < tournamentSize; i++) {
+            winner = Math.min(winner, random.nextInt(candidates.length));
+        }
+        return candidates[winner];
+    }
+
+    /**
+     * Creates an offspring as the average of both parents weighted by their fitness.
+     *
+     * @param first The first parent.
+     * @param second The second parent.
+     * @return Returns the normalized and possibly mutated offspring.
+     */
+    private @NotNull HeuristicWeights crossover(final @NotNull Candidate first, final @NotNull Candidate second) {
+        final int totalFitness = first.fitness() + second.fitness();
+        final double firstShare = totalFitness == 0 ? 0.5 : (double) first.fitness() / totalFitness;
+        final double secondShare = 1 - firstShare;
+        final HeuristicWeights a = first.weights();
+        final HeuristicWeights b = second.weights();
+        final double[] weights = {
+                a.holes() * firstShare + b.holes() * secondShare,
+                a.aggregateHeight() * firstShare + b.aggregateHeight() * secondShare,
+                a.bumpiness() * firstShare + b.bumpiness() * secondShare,
+                a.clearedLines() * firstShare + b.clearedLines() * secondShare
+        };
+        if (random.nextDouble() < MUTATION_RATE) {
+            weights[random.nextInt(weights.length)] += random.nextDouble(-MUTATION_STEP, MUTATION_STEP);
+        }
+        return normalize(weights[0], weights[1], weights[2], weights[3]);
+    }
+
+    /**
+     * Writes the fitness of a generation to the log.
+     *
+     * @param log The log to write to.
+     * @param generation The generation.
+     * @param candidates The evaluated candidates sorted by their fitness, starting with the best one.
+     * @throws IOException Thrown, when the log could not be written.
+     */
+    private static void writeGeneration(final @NotNull BufferedWriter log, final int generation, final @NotNull Candidate @NotNull[] candidates) throws IOException {
+        long totalFitness = 0;
+        for (final Candidate candidate : candidates) {
+            totalFitness += candidate.fitness();
+        }
+        final HeuristicWeights best = candidates[0].weights();
+        log.write(String.format(Locale.ROOT, "%d,%d,%.2f,%d,%f,%f,%f,%f", generation, candidates[0].fitness(),
+                (double) totalFitness / candidates.length, candidates[candidates.length - 1].fitness(),
+                best.holes(), best.aggregateHeight(), best.bumpiness(), best.clearedLines()));
+        log.newLine();
+        log.flush();
+    }
+
+    /**
+     * Creates weights with a length of {@code 1}.
+     *
+     * @param holes The weight of the holes.
+     * @param aggregateHeight The weight of the aggregate height.
+     * @param bumpiness The weight of the bumpiness.
+     * @param clearedLines The weight of the removed lines.
+     * @return Returns the normalized weights.
+     */
+    private static @NotNull HeuristicWeights normalize(final double holes, final double aggregateHeight, final double bumpiness, final double clearedLines) {
+        final double length = Math.sqrt(holes * holes + aggregateHeight * aggregateHeight + bumpiness * bumpiness + clearedLines * clearedLines);
+        if (length == 0) {
+            return HeuristicWeights.DEFAULT;
+        }
+        return new HeuristicWeights(holes / length, aggregateHeight / length, bumpiness / length, clearedLines / length);
+    }
+
+    /**
+     * Represents a candidate with its fitness.
+     *
+     * @param weights The weights of the candidate.
+     * @param fitness The number of removed lines of all games.
+     */
+    private record Candidate(@NotNull HeuristicWeights weights, int fitness) {
+    }
+}
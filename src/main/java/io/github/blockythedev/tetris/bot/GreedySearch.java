@@ -0,0 +1,56 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.bot;
+
+import java.util.concurrent.ForkJoinPool;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A strategy scoring all placements of the current shape in parallel and choosing the best one.
+ * <p>
+ * Optionally, every placement is scored by the best placement of the next shape of the preview.
+ * </p>
+ */
+public class GreedySearch implements PlacementStrategy {
+    private final ForkJoinPool pool;
+    private final HeuristicWeights weights;
+    private final boolean lookahead;
+
+    /**
+     * Constructs a {@link GreedySearch}.
+     *
+     * @param pool The pool to run the search on.
+     * @param weights The weights of the heuristic.
+     * @param lookahead Whether the next shape of the preview should be included into the search.
+     */
+    public GreedySearch(final @NotNull ForkJoinPool pool, final @NotNull HeuristicWeights weights, final boolean lookahead) {
+        this.pool = pool;
+        this.weights = weights;
+        this.lookahead = lookahead;
+    }
+
+    @Override
+    public @Nullable Placement findPlacement(final @NotNull BoardSnapshot snapshot) {
+        final int[] placements = new int[BoardSimulation.MAX_PLACEMENTS];
+        final int count = BoardSimulation.findPlacements(snapshot.occupancy(), snapshot.shape(), snapshot.rotation(), snapshot.posX(), snapshot.posY(), placements);
+        final boolean nextShapeKnown = lookahead && snapshot.preview().length > 0;
+        return pool.invoke(new PlacementSearch(snapshot.occupancy(), snapshot.columnHeights(), snapshot.shape(), snapshot.posY(),
+                nextShapeKnown ? snapshot.preview()[0] : null, weights, placements, 0, count));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.bot;
+
+import java.util.Properties;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The weights of the heuristic used by the bot for scoring a board.
+ * <p>
+ * A higher score is a better board, so the weights of unwanted properties are negative.
+ * </p>
+ *
+ * @param holes The weight of the number of empty cells covered by a block.
+ * @param aggregateHeight The weight of the sum of all column heights.
+ * @param bumpiness The weight of the sum of the height differences between neighboring columns.
+ * @param clearedLines The weight of the number of removed lines.
+ */
+public record HeuristicWeights(double holes, double aggregateHeight, double bumpiness, double clearedLines) {
+    /**
+     * Well-tested default weights, which keep the board low and flat.
+     */
+    public static final HeuristicWeights DEFAULT = new HeuristicWeights(-0.35663, -0.510066, -0.184483, 0.760666);
+
+    private static final String KEY_HOLES = "holes";
+    private static final String KEY_AGGREGATE_HEIGHT = "aggregateHeight";
+    private static final String KEY_BUMPINESS = "bumpiness";
+    private static final String KEY_CLEARED_LINES = "clearedLines";
+
+    /**
+     * Reads the weights from properties.
+     *
+     * @param properties The properties containing the weights.
+     * @return Returns the weights, where missing ones are taken from {@link #DEFAULT}.
+     * @throws NumberFormatException Thrown, when a weight is not a number.
+     */
+    public static @NotNull HeuristicWeights fromProperties(final @NotNull Properties properties) {
+        return new HeuristicWeights(
+                Double.parseDouble(properties.getProperty(KEY_HOLES, Double.toString(DEFAULT.holes))),
+                Double.parseDouble(properties.getProperty(KEY_AGGREGATE_HEIGHT, Double.toString(DEFAULT.aggregateHeight))),
+                Double.parseDouble(properties.getProperty(KEY_BUMPINESS, Double.toString(DEFAULT.bumpiness))),
+                Double.parseDouble(properties.getProperty(KEY_CLEARED_LINES, Double.toString(DEFAULT.clearedLines))));
+    }
+
+    /**
+     * Writes the weights to properties.
+     *
+     * @return Returns the properties containing the weights.
+     */
+    public @NotNull Properties toProperties() {
+        final Properties properties = new Properties();
+        properties.setProperty(KEY_HOLES, Double.toString(holes));
+        properties.setProperty(KEY_AGGREGATE_HEIGHT, Double.toString(aggregateHeight));
+        properties.setProperty(KEY_BUMPINESS, Double.toString(bumpiness));
+        properties.setProperty(KEY_CLEARED_LINES, Double.toString(clearedLines));
+        return properties;
+    }
+
+    /**
+     * Scores the properties of a board.
+     *
+     * @param holeCount The number of empty cells covered by a block.
+     * @param aggregateHeightSum The sum of all column heights.
+     * @param bumpinessSum The sum of the height differences between neighboring columns.
+     * @param clearedLineCount The number of removed lines.
+     * @return Returns the score, where a higher score is better.
+     */
+    public double score(final int holeCount, final int aggregateHeightSum, final int bumpinessSum, final int clearedLineCount) {
+        return holes * holeCount + aggregateHeight * aggregateHeightSum + bumpiness * bumpinessSum + clearedLines * clearedLineCount;
+    }
+}
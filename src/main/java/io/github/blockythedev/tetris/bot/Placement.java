@@ -0,0 +1,31 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.bot;
+
+import io.github.blockythedev.tetris.utils.Rotation;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents a placement of the current shape chosen by the bot.
+ *
+ * @param rotation The rotation of the shape.
+ * @param posX The X-position of the shape.
+ * @param score The heuristic score of the resulting board.
+ */
+public record Placement(@NotNull Rotation rotation, int posX, double score) {
+}
@@ -0,0 +1,145 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.bot;
+
+import io.github.blockythedev.tetris.constants.GameConstants;
+import io.github.blockythedev.tetris.shapes.PieceType;
+import io.github.blockythedev.tetris.utils.Rotation;
+import java.util.concurrent.RecursiveTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A fork/join task scoring a range of placements of the current shape.
+ * <p>
+ * The range is split in halves, until it is small enough to be scored by a single task.
+ * Every task works on its own copies of the board snapshot, which is never changed.
+ * If the next shape is known, every placement is scored by the best placement of the next shape on the resulting board.
+ * </p>
+ */
+class PlacementSearch extends RecursiveTask<Placement> {
+    /**
+     * The maximum number of placements scored by a single task.
+     */
+    private static final int THRESHOLD = 4;
+
+    private final int[] occupancy;
+    private final int[] columnHeights;
+    private final PieceType shape;
+    private final int posY;
+    private final PieceType nextShape;
+    private final HeuristicWeights weights;
+    private final int[] placements;
+    private final int from;
+    private final int to;
+
+    /**
+     * Constructs a search task.
+     *
+     * @param occupancy The snapshot of the occupancy masks of the board.
+     * @param columnHeights The snapshot of the height of the highest block per column.
+     * @param shape The current shape.
+     * @param posY The current Y-position of the shape.
+     * @param nextShape The next shape or {@code null}, if only the current shape should be placed.
+     * @param weights The weights of the heuristic.
+     * @param placements The encoded placements of the current shape, see {@link BoardSimulation}.
+     * @param from The index of the first placement to score.
+     * @param to The index after the last placement to score.
+     */
+    PlacementSearch(final int @NotNull[] occupancy, final int @NotNull[] columnHeights, final @NotNull PieceType shape, final int posY,
+                    final @Nullable PieceType nextShape, final @NotNull HeuristicWeights weights, final int @NotNull[] placements, final int from, final int to) {
+        this.occupancy = occupancy;
+        this.columnHeights = columnHeights;
+        this.shape = shape;
+        this.posY = posY;
+        this.nextShape = nextShape;
+        this.weights = weights;
+        this.placements = placements;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected @Nullable Placement compute() {
+        if (to - from > THRESHOLD) {
+            final int middle = (from + to) >>> 1;
+            final PlacementSearch left = new PlacementSearch(occupancy, columnHeights, shape, posY, nextShape, weights, placements, from, middle);
+            final PlacementSearch right = new PlacementSearch(occupancy, columnHeights, shape, posY, nextShape, weights, placements, middle, to);
+            left.fork();
+            final Placement rightPlacement = right.compute();
+            final Placement leftPlacement = left.join();
+            // prefers the left placement on equal scores, so that the result does not depend on the scheduling
+            if (leftPlacement == null) {
+                return rightPlacement;
+            }
+            return rightPlacement == null || leftPlacement.score() >= rightPlacement.score() ? leftPlacement : rightPlacement;
+        }
+
+        final int[] board = new int[GameConstants.LINES];
+        final int[] nextBoard = nextShape == null ? null : new int[GameConstants.LINES];
+        final int[] nextColumnHeights = nextShape == null ? null : new int[GameConstants.COLUMNS];
+        final int[] nextPlacements = nextShape == null ? null : new int[BoardSimulation.MAX_PLACEMENTS];
+
+        Placement best = null;
+        for (int i = from; i < to; i++) {
+            final Rotation rotation = BoardSimulation.getRotation(placements[i]);
+            final int posX = BoardSimulation.getPosX(placements[i]);
+            System.arraycopy(occupancy, 0, board, 0, board.length);
+            final int landingPosY = BoardSimulation.getLandingPosY(board, columnHeights, shape, rotation, posX, posY);
+            final int clearedLines = BoardSimulation.lock(board, shape, rotation, posX, landingPosY);
+
+            final double score = nextShape == null
+                    ? BoardSimulation.evaluate(board, clearedLines, weights)
+                    : scoreNextShape(board, clearedLines, nextBoard, nextColumnHeights, nextPlacements);
+            if (best == null || score > best.score()) {
+                best = new Placement(rotation, posX, score);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Scores a board by the best placement of the next shape.
+     *
+     * @param board The board after placing the current shape.
+     * @param clearedLines The number of lines removed by placing the current shape.
+     * @param nextBoard The array to simulate the placements of the next shape in.
+     * @param nextColumnHeights The array to store the column heights of the board in.
+     * @param nextPlacements The array to store the placements of the next shape in.
+     * @return Returns the best score or {@link Double#NEGATIVE_INFINITY}, if the next shape cannot be spawned.
+     */
+    private double scoreNextShape(final int @NotNull[] board, final int clearedLines, final int @NotNull[] nextBoard, final int @NotNull[] nextColumnHeights, final int @NotNull[] nextPlacements) {
+        final int spawnPosX = BoardSimulation.getSpawnPosX(nextShape);
+        if (!BoardSimulation.isPlaceable(board, nextShape, Rotation.NORMAL, spawnPosX, 0)) {
+            return Double.NEGATIVE_INFINITY;
+        }
+
+        BoardSimulation.fillColumnHeights(board, nextColumnHeights);
+        final int count = BoardSimulation.findPlacements(board, nextShape, Rotation.NORMAL, spawnPosX, 0, nextPlacements);
+        double best = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            final Rotation rotation = BoardSimulation.getRotation(nextPlacements[i]);
+            final int posX = BoardSimulation.getPosX(nextPlacements[i]);
+            System.arraycopy(board, 0, nextBoard, 0, board.length);
+            final int landingPosY = BoardSimulation.getLandingPosY(nextBoard, nextColumnHeights, nextShape, rotation, posX, 0);
+            final int nextClearedLines = BoardSimulation.lock(nextBoard, nextShape, rotation, posX, landingPosY);
+            best = Math.max(best, BoardSimulation.evaluate(nextBoard, clearedLines + nextClearedLines, weights));
+        }
+        return best;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.bot;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A strategy of the bot for choosing the placement of the current shape.
+ */
+@FunctionalInterface
+public interface PlacementStrategy {
+    /**
+     * Searches the best placement of the current shape.
+     * <p>
+     * Note: This may be called on any thread, but only with one snapshot at a time.
+     * </p>
+     *
+     * @param snapshot The board state to search on.
+     * @return Returns the best placement or {@code null}, if the shape cannot be placed anymore.
+     */
+    @Nullable Placement findPlacement(@NotNull BoardSnapshot snapshot);
+}
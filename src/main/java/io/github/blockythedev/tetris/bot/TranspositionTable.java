@@ -0,0 +1,122 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.bot;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent transposition table caching the heuristic scores of search states by their Zobrist hash.
+ * <p>
+ * The table has a fixed number of slots, so its memory is capped at creation.
+ * A state is stored in the slot selected by its hash and evicts the previous state of that slot.
+ * </p>
+ * <p>
+ * The table is lock-free: Every slot stores the score and the hash combined with the score by XOR.
+ * A slot written concurrently by another thread fails this check and is treated as a miss.
+ * </p>
+ */
+public class TranspositionTable {
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    /**
+     * Constructs an empty transposition table.
+     *
+     * @param capacityBits The number of bits of the capacity, which is {@code 2^capacityBits} states.
+     */
+    public TranspositionTable(final int capacityBits) {
+        if (capacityBits < 1 || capacityBits > 29) {
+            throw new IllegalArgumentException("The capacity bits must be between 1 and 29");
+        }
+        mask = (1 << capacityBits) - 1;
+        slots = new AtomicLongArray(2 << capacityBits);
+        hits = new LongAdder();
+        misses = new LongAdder();
+    }
+
+    /**
+     * Gets the cached score of a state.
+     *
+     * @param hash The Zobrist hash of the state.
+     * @return Returns the score or {@link Double#NaN}, if the state is not cached.
+     */
+    public double get(final long hash) {
+        final int slot = index(hash);
+        final long check = slots.getOpaque(slot);
+        final long data = slots.getOpaque(slot + 1);
+        if ((check ^ data) != hash) {
+            misses.increment();
+            return Double.NaN;
+        }
+        hits.increment();
+        return Double.longBitsToDouble(data);
+    }
+
+    /**
+     * Caches the score of a state and evicts the state previously stored in its slot.
+     *
+     * @param hash The Zobrist hash of the state.
+     * @param score The score.
+     */
+    public void put(final long hash, final double score) {
+        final int slot = index(hash);
+        final long data = Double.doubleToRawLongBits(score);
+        slots.setOpaque(slot, hash ^ data);
+        slots.setOpaque(slot + 1, data);
+    }
+
+    /**
+     * Gets the index of the first element of the slot of a state.
+     *
+     * @param hash The Zobrist hash of the state.
+     * @return Returns the index.
+     */
+    private int index(final long hash) {
+        return ((int) (hash ^ (hash >>> 32)) & mask) << 1;
+    }
+
+    /**
+     * Gets the number of states, which can be cached.
+     *
+     * @return Returns the capacity.
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Gets the number of lookups, which found a cached state.
+     *
+     * @return Returns the number of hits.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of lookups, which did not find a cached state.
+     *
+     * @return Returns the number of misses.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.bot;
+
+import io.github.blockythedev.tetris.constants.GameConstants;
+import io.github.blockythedev.tetris.shapes.PieceType;
+import io.github.blockythedev.tetris.utils.Rotation;
+import java.util.SplittableRandom;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A final class for Zobrist hashing of the search states of the bot.
+ * <p>
+ * Every cell of the board and every combination of piece type and rotation has a random 64-bit key.
+ * A state is hashed by combining the keys of its filled cells and its shape with XOR.
+ * </p>
+ */
+public final class Zobrist {
+    /**
+     * The fixed seed of the keys, so that hashes are stable between runs.
+     */
+    private static final long SEED = 0x2B7E151628AED2A6L;
+    private static final long[] CELL_KEYS;
+    private static final long[] SHAPE_KEYS;
+
+    static {
+        final SplittableRandom random = new SplittableRandom(SEED);
+        CELL_KEYS = new long[GameConstants.LINES * GameConstants.COLUMNS];
+        for (int i = 0; i < CELL_KEYS.length; i++) {
+            CELL_KEYS[i] = random.nextLong();
+        }
+        SHAPE_KEYS = new long[PieceType.values().length * Rotation.values().length];
+        for (int i = 0; i < SHAPE_KEYS.length; i++) {
+            SHAPE_KEYS[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * Prevents the constructor from being called.
+     *
+     * @throws UnsupportedOperationException Thrown, when the constructor gets called.
+     */
+    private Zobrist() {
+        throw new UnsupportedOperationException("Cannot instantiate class");
+    }
+
+    /**
+     * Hashes the filled cells of a board.
+     *
+     * @param occupancy The occupancy masks of the board.
+     * @return Returns the hash.
+     */
+    public static long hashBoard(final int @NotNull[] occupancy) {
+        long hash = 0;
+        for (int line = 0; line < occupancy.length; line++) {
+            int columns = occupancy[line];
+            while (columns != 0) {
+                hash ^= CELL_KEYS[line * GameConstants.COLUMNS + Integer.numberOfTrailingZeros(columns)];
+                columns &= columns - 1;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Hashes a shape with its rotation.
+     *
+     * @param shape The piece type of the shape.
+     * @param rotation The rotation of the shape.
+     * @return Returns the hash.
+     */
+    public static long hashShape(final @NotNull PieceType shape, final @NotNull Rotation rotation) {
+        return SHAPE_KEYS[shape.ordinal() * Rotation.values().length + rotation.ordinal()];
+    }
+}
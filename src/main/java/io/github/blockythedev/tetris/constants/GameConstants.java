@@ -17,10 +17,12 @@
  */
 package io.github.blockythedev.tetris.constants;
 
-import java.awt.Toolkit;
-
 /**
  * A final class containing some general game constants.
+ * <p>
+ * Note: This class must not depend on AWT, as the game engine can run in headless environments.
+ * The user interface related constants are contained in {@link UiConstants}.
+ * </p>
  */
 public final class GameConstants {
     /**
@@ -32,25 +34,45 @@ public final class GameConstants {
      */
     public static final int LINES = 20;
     /**
-     * The screen size height.
+     * The occupancy bit mask of a completely filled line, with one bit per column.
+     */
+    public static final int FULL_LINE_MASK = (1 << COLUMNS) - 1;
+    /**
+     * The number of upcoming pieces, which can be previewed.
+     */
+    public static final int PREVIEW_PIECES = 3;
+    /**
+     * The number of game ticks per second.
+     */
+    public static final int TICKS_PER_SECOND = 60;
+    /**
+     * The number of removed lines, after which the next level is reached.
+     */
+    public static final int LINES_PER_LEVEL = 10;
+    /**
+     * The highest gravity in lines per tick, which lets a shape fall through the whole board at once (20G).
+     */
+    public static final int MAX_GRAVITY_LINES = LINES;
+    /**
+     * The number of ticks a shape rests on the stack, before it is locked.
      */
-    public static final double SCREEN_SIZE_HEIGHT = Toolkit.getDefaultToolkit().getScreenSize().getHeight();
+    public static final int LOCK_DELAY_TICKS = 30;
     /**
-     * The percentage, which shows how much of the screen height is allowed to be filled with the content pane height.
+     * The delay after pressing a shift key, until the shape is shifted repeatedly (DAS).
      */
-    public static final double MAX_CONTENT_HEIGHT_PERCENTAGE = SCREEN_SIZE_HEIGHT >= 1080 ? 0.40 : 0.75;
+    public static final int AUTO_SHIFT_DELAY_MS = 167;
     /**
-     * The factor, which shows the dimension of the game board size to the window size.
+     * The interval between two repeated shifts, while a shift key is held (ARR).
      */
-    public static final int SCREEN_FACTOR = (int) (SCREEN_SIZE_HEIGHT * MAX_CONTENT_HEIGHT_PERCENTAGE) / LINES;
+    public static final int AUTO_REPEAT_INTERVAL_MS = 33;
     /**
-     * The factor, which shows the dimension of the normal text size and the text size in the window.
+     * The directory, in which the replays of all games are recorded.
      */
-    public static final float FONT_FACTOR = SCREEN_FACTOR * 0.05F;
+    public static final String REPLAY_DIRECTORY = "replays";
     /**
-     * The interval, in which the game blocks will fall down.
+     * The directory, in which the running game is saved.
      */
-    public static final int INTERVAL_FALLING_BLOCK_MS = 1000;
+    public static final String SAVE_DIRECTORY = "saves";
 
     /**
      * Prevents the constructor from being called.
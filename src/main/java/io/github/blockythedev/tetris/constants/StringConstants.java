@@ -61,6 +61,8 @@ public final class StringConstants {
                - Press the up arrow key to rotate the shape clockwise.
                - Press the down arrow key to rotate the shape anti-clockwise.
                - Press the space bar to instantly drop the shape to the bottom.
+               - Press B to let the bot play the game and press it again to take over.
+               - Press F3 to show or hide the performance statistics.
 
             2. Objective:
                - The goal of the game is to complete horizontal lines by filling them with shapes.
@@ -68,9 +70,9 @@ public final class StringConstants {
 
             3. Gameplay:
                - The game starts with an empty grid.
-               - Shapes will fall from the top, one row at a time.
+               - Shapes will fall from the top, faster with every level reached after 10 cleared lines.
                - Move and rotate the falling shape to position it where you want it to land.
-               - Once the shape reaches the bottom or lands on another block, it becomes fixed, and a new shape falls.
+               - Once the shape reaches the bottom or lands on another block, it becomes fixed after half a second, and a new shape falls.
 
             4. Scoring:
                - You will earn a point for each completed line.
@@ -83,7 +85,17 @@ public final class StringConstants {
 
             Enjoy playing our self-coded Tetris game!""";
     /** Text: {@literal LABEL_TEXT_SCORE} */
-    public static final String LABEL_TEXT_SCORE = "Score: {0}";
+    public static final String LABEL_TEXT_SCORE = "Score: {0}  Level: {1}";
+    /** Text: {@literal HUD_TEXT_RATES} */
+    public static final String HUD_TEXT_RATES = "FPS %.1f  TPS %.1f";
+    /** Text: {@literal HUD_TEXT_FRAME_TIME} */
+    public static final String HUD_TEXT_FRAME_TIME = "Frame p50 %.2f ms  p99 %.2f ms";
+    /** Text: {@literal HUD_TEXT_INPUT_LATENCY} */
+    public static final String HUD_TEXT_INPUT_LATENCY = "Input p50 %.1f ms  p99 %.1f ms";
+    /** Text: {@literal HUD_TEXT_ALLOCATION_RATE} */
+    public static final String HUD_TEXT_ALLOCATION_RATE = "Alloc %.1f MB/s";
+    /** Text: {@literal HUD_TEXT_ALLOCATION_RATE_UNSUPPORTED} */
+    public static final String HUD_TEXT_ALLOCATION_RATE_UNSUPPORTED = "Alloc n/a";
 
     /**
      * Prevents the constructor from being called.
@@ -0,0 +1,195 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.logic;
+
+import io.github.blockythedev.tetris.constants.GameConstants;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The delayed auto shift of the held shift keys, which replaces the key repeat of the operating system.
+ * <p>
+ * A shift key moves the shape once when pressed. After the {@link GameConstants#AUTO_SHIFT_DELAY_MS},
+ * the shape is shifted every {@link GameConstants#AUTO_REPEAT_INTERVAL_MS}, as long as the key is held.
+ * When both shift keys are held, the last pressed one wins. The repeats are scheduled from the key event time,
+ * so that they do not depend on when the events are processed.
+ * </p>
+ * <p>
+ * Note: This class is only used on the game loop thread.
+ * </p>
+ */
+final class AutoShift {
+    /**
+     * The delay until the first repeated shift in nanoseconds.
+     */
+    private static final long DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(GameConstants.AUTO_SHIFT_DELAY_MS);
+    /**
+     * The interval between two repeated shifts in nanoseconds.
+     */
+    private static final long INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(GameConstants.AUTO_REPEAT_INTERVAL_MS);
+    /**
+     * The maximum number of shifts caught up at once, after the loop was stalled.
+     */
+    private static final int MAX_CATCH_UP_SHIFTS = GameConstants.COLUMNS;
+
+    private final ShiftHandler handler;
+    private boolean leftHeld;
+    private boolean rightHeld;
+    private Input activeShift;
+    private long nextShiftTime;
+    private Input releasedShift;
+    private long releasedNextShiftTime;
+
+    /**
+     * Constructs an {@link AutoShift}.
+     *
+     * @param handler The handler applying the shifts.
+     */
+    AutoShift(final @NotNull ShiftHandler handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * Checks if an input is a shift, which is repeated while held.
+     *
+     * @param input The input to check.
+     * @return Returns {@code true} if the input is a shift, else {@code false}.
+     */
+    static boolean isShift(final @NotNull Input input) {
+        return input == Input.MOVE_LEFT || input == Input.MOVE_RIGHT;
+    }
+
+    /**
+     * Presses a shift key, which shifts the shape once immediately.
+     *
+     * @param shift The pressed shift.
+     * @param timeNanos The time of the key event in nanoseconds.
+     */
+    void press(final @NotNull Input shift, final long timeNanos) {
+        setHeld(shift, true);
+        activeShift = shift;
+        nextShiftTime = timeNanos + DELAY_NANOS;
+        handler.applyShift(shift, timeNanos);
+    }
+
+    /**
+     * Releases a shift key.
+     * <p>
+     * If the other shift key is still held, it takes over after a new delay.
+     * </p>
+     *
+     * @param shift The released shift.
+     * @param timeNanos The time of the key event in nanoseconds.
+     */
+    void release(final @NotNull Input shift, final long timeNanos) {
+        setHeld(shift, false);
+        if (activeShift != shift) {
+            return;
+        }
+        releasedShift = shift;
+        releasedNextShiftTime = nextShiftTime;
+        final Input otherShift = shift == Input.MOVE_LEFT ? Input.MOVE_RIGHT : Input.MOVE_LEFT;
+        if (isHeld(otherShift)) {
+            activeShift = otherShift;
+            nextShiftTime = timeNanos + DELAY_NANOS;
+        } else {
+            activeShift = null;
+        }
+    }
+
+    /**
+     * Resumes a shift key, whose release was only caused by the key repeat of the operating system.
+     * <p>
+     * The shift continues with the timing it had before the release, so the key repeat has no effect.
+     * </p>
+     *
+     * @param shift The shift to resume.
+     */
+    void resume(final @NotNull Input shift) {
+        setHeld(shift, true);
+        if (releasedShift == shift) {
+            activeShift = shift;
+            nextShiftTime = releasedNextShiftTime;
+        }
+    }
+
+    /**
+     * Applies the repeated shifts, which are due.
+     *
+     * @param now The current time in nanoseconds.
+     */
+    void update(final long now) {
+        int shifts = 0;
+        while (activeShift != null && now - nextShiftTime >= 0) {
+            handler.applyShift(activeShift, nextShiftTime);
+            nextShiftTime += INTERVAL_NANOS;
+            if (++shifts == MAX_CATCH_UP_SHIFTS) {
+                // a stalled loop does not cause a burst of outdated shifts
+                nextShiftTime = now + INTERVAL_NANOS;
+            }
+        }
+    }
+
+    /**
+     * Gets the time of the next repeated shift.
+     *
+     * @param fallback The time returned, when no shift key is held.
+     * @return Returns the time in nanoseconds.
+     */
+    long getNextShiftTime(final long fallback) {
+        return activeShift == null ? fallback : nextShiftTime;
+    }
+
+    /**
+     * Checks if a shift key is held.
+     *
+     * @param shift The shift to check.
+     * @return Returns {@code true} if the key is held, else {@code false}.
+     */
+    private boolean isHeld(final @NotNull Input shift) {
+        return shift == Input.MOVE_LEFT ? leftHeld : rightHeld;
+    }
+
+    /**
+     * Sets the held state of a shift key.
+     *
+     * @param shift The shift to set.
+     * @param held Whether the key is held.
+     */
+    private void setHeld(final @NotNull Input shift, final boolean held) {
+        if (shift == Input.MOVE_LEFT) {
+            leftHeld = held;
+        } else {
+            rightHeld = held;
+        }
+    }
+
+    /**
+     * The handler applying the shifts.
+     */
+    @FunctionalInterface
+    interface ShiftHandler {
+        /**
+         * Applies a shift.
+         *
+         * @param shift The shift to apply.
+         * @param timeNanos The time, at which the shift was due, in nanoseconds.
+         */
+        void applyShift(@NotNull Input shift, long timeNanos);
+    }
+}
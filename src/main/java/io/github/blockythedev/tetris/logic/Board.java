@@ -18,101 +18,261 @@
 package io.github.blockythedev.tetris.logic;
 
 import io.github.blockythedev.tetris.constants.GameConstants;
-import io.github.blockythedev.tetris.constants.StringConstants;
-import io.github.blockythedev.tetris.shapes.Shape;
-import io.github.blockythedev.tetris.utils.Block;
+import io.github.blockythedev.tetris.metrics.LineClearEvent;
+import io.github.blockythedev.tetris.metrics.LockEvent;
+import io.github.blockythedev.tetris.metrics.SpawnEvent;
+import io.github.blockythedev.tetris.metrics.TickEvent;
+import io.github.blockythedev.tetris.shapes.PieceType;
+import io.github.blockythedev.tetris.utils.PieceGenerator;
 import io.github.blockythedev.tetris.utils.Rotation;
 import io.github.blockythedev.tetris.utils.Stats;
 import io.github.blockythedev.tetris.utils.Utils;
-import java.text.MessageFormat;
-import java.util.ArrayList;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
-import java.util.List;
-import javax.swing.JOptionPane;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * A Tetris board.
+ * <p>
+ * The occupancy of the board is stored as a bitboard with one {@code int} mask per line,
+ * where bit {@code n} is set, when column {@code n} of that line contains a block.
+ * The {@link PieceType} ids of the blocks are kept separately and are only read for drawing.
+ * </p>
+ * <p>
+ * Additionally, the height of the highest block per column is kept as a skyline,
+ * so that the landing position of a shape can be calculated without probing every line.
+ * The gravity of the current level moves the shape in one step to its new position, even if it falls many lines per tick.
+ * </p>
  */
 public class Board {
-    private final GameManager gameManager;
-    private final Block[][] gameBoard;
-    private Shape currentShape;
+    private final GameEngine engine;
+    private final int[] occupancy;
+    private final int[] columnHeights;
+    private final byte[][] gameBoard;
+    private final PieceGenerator pieceGenerator;
+    private final DirtyRegion dirtyRegion;
+    private PieceType currentShape;
+    private int generation;
+    private int lockedLine;
+    private int lockedLineCount;
     private int posX;
     private int posY;
     private Rotation rotation;
+    private int fallingSubLines;
+    private int lockTicks;
 
     /**
      * Create a Tetris board.
      *
-     * @param gameManager The game manager.
+     * @param engine The game engine.
+     * @param seed The seed of the piece sequence.
      */
-    public Board(final @NotNull GameManager gameManager) {
-        this.gameManager = gameManager;
-        gameBoard = new Block[GameConstants.LINES][GameConstants.COLUMNS];
+    public Board(final @NotNull GameEngine engine, final long seed) {
+        this.engine = engine;
+        pieceGenerator = new PieceGenerator(seed, GameConstants.PREVIEW_PIECES);
+        occupancy = new int[GameConstants.LINES];
+        columnHeights = new int[GameConstants.COLUMNS];
+        gameBoard = new byte[GameConstants.LINES][GameConstants.COLUMNS];
+        dirtyRegion = new DirtyRegion();
     }
 
     /**
-     * Removes full lines of the game board.
+     * Removes the full lines within the given range of the game board.
+     * <p>
+     * Only the lines above a removed line are moved down in place.
+     * The storage of the removed line is reused for the new empty line at the top of the stack,
+     * so that no memory is allocated.
+     * </p>
+     *
+     * @param firstLine The first line to check.
+     * @param lineCount The number of lines to check.
+     * @return Returns the number of removed lines.
      */
-    private void removeFullLines() {
-        final Stats stats = gameManager.getStats();
-        final List<Block[]> rows = new ArrayList<>();
-
-        for (final Block[] row : gameBoard) {
-            if (Utils.isFull(row)) {
-                stats.incrementRemovedLines();
-                continue;
-            } else if (Utils.isEmpty(row)) {
+    int removeFullLines(final int firstLine, final int lineCount) {
+        final LineClearEvent event = new LineClearEvent();
+        event.begin();
+        final Stats stats = engine.getStats();
+        int removedLines = 0;
+        int lineMask = 0;
+
+        // from top to bottom, so that the lines still to check are not moved
+        for (int line = firstLine; line < firstLine + lineCount; line++) {
+            if (!Utils.isFull(occupancy[line])) {
                 continue;
             }
-            rows.addFirst(row.clone());
+
+            // as blocks always rest on other blocks, the first empty line marks the top of the stack
+            int top = line;
+            while (top > 0 && !Utils.isEmpty(occupancy[top - 1])) {
+                top--;
+            }
+
+            // the removed line is still in place, so the columns topped by it are known before moving
+            final int lineHeight = GameConstants.LINES - line;
+            for (int column = 0; column < columnHeights.length; column++) {
+                if (columnHeights[column] == lineHeight) {
+                    columnHeights[column] = getColumnHeight(column, line + 1);
+                } else if (columnHeights[column] > lineHeight) {
+                    columnHeights[column]--;
+                }
+            }
+
+            final byte[] removedCells = gameBoard[line];
+            System.arraycopy(occupancy, top, occupancy, top + 1, line - top);
+            System.arraycopy(gameBoard, top, gameBoard, top + 1, line - top);
+            occupancy[top] = 0;
+            Arrays.fill(removedCells, (byte) 0);
+            gameBoard[top] = removedCells;
+            dirtyRegion.markDirty();
+
+            stats.incrementRemovedLines();
+            removedLines++;
+            lineMask |= 1 << line;
+        }
+        if (removedLines > 0) {
+            generation++;
+            if (event.shouldCommit()) {
+                event.linesCleared = removedLines;
+                event.lineMask = lineMask;
+                event.boardHeight = getStackHeight();
+                event.commit();
+            }
+            engine.notifyLinesCleared(lineMask);
         }
+        return removedLines;
+    }
 
-        clearBoard();
+    /**
+     * Gets the height of the highest block within a column starting at the given line.
+     *
+     * @param column The column to check.
+     * @param firstLine The first line to check from the top.
+     * @return Returns the height of the highest block or {@code 0}, if no block was found.
+     */
+    private int getColumnHeight(final int column, final int firstLine) {
+        final int columnMask = 1 << column;
+        for (int line = firstLine; line < occupancy.length; line++) {
+            if ((occupancy[line] & columnMask) != 0) {
+                return GameConstants.LINES - line;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the height of the highest column.
+     *
+     * @return Returns the height in lines.
+     */
+    private int getStackHeight() {
+        int height = 0;
+        for (final int columnHeight : columnHeights) {
+            height = Math.max(height, columnHeight);
+        }
+        return height;
+    }
 
-        for (int i = 0; i < rows.size(); i++) {
-            gameBoard[gameBoard.length - 1 - i] = rows.get(i);
+    /**
+     * Recalculates the skyline from the occupancy masks.
+     * <p>
+     * Note: This is only required, when the occupancy masks were changed from outside the board.
+     * </p>
+     */
+    void updateColumnHeights() {
+        for (int column = 0; column < columnHeights.length; column++) {
+            columnHeights[column] = getColumnHeight(column, 0);
         }
+        generation++;
     }
 
     /**
      * Sets a new shape and checks for game-over state.
      */
     private void chooseNewShape() {
-        currentShape = Utils.selectRandomShape();
+        currentShape = pieceGenerator.next();
         rotation = Rotation.NORMAL;
-        posX = (gameBoard[0].length / 2) - (currentShape.getShape(rotation)[0].length / 2);
+        posX = (GameConstants.COLUMNS / 2) - (currentShape.getWidth(rotation) / 2);
         posY = 0;
-
-        if (!isPlaceable(currentShape, rotation, posX, posY)) {
-            doGamerOverLogic();
+        fallingSubLines = 0;
+        lockTicks = 0;
+
+        final boolean placeable = isPlaceable(currentShape, rotation, posX, posY);
+        final SpawnEvent event = new SpawnEvent();
+        if (event.shouldCommit()) {
+            event.pieceType = currentShape.name();
+            event.gameOver = !placeable;
+            event.commit();
         }
+        if (!placeable) {
+            currentShape = null;
+            engine.triggerGameOver();
+            return;
+        }
+        dirtyRegion.markDirty();
+        engine.notifyShapeSpawned();
     }
 
     /**
      * Inserts the current shape into the board if falling is finished.
      */
     private void finishFalling() {
-        final Block[][] rotatedShape = currentShape.getShape(rotation);
-        for (int row = 0; row < rotatedShape.length; row++) {
-            for (int column = 0; column < rotatedShape[row].length; column++) {
-                if (rotatedShape[row][column] != null) {
-                    gameBoard[posY + row][posX + column] = rotatedShape[row][column];
-                }
+        final LockEvent event = new LockEvent();
+        event.begin();
+        final int[] rowMasks = currentShape.getRowMasks(rotation);
+        final byte id = currentShape.getId();
+        for (int row = 0; row < rowMasks.length; row++) {
+            occupancy[posY + row] |= rowMasks[row] << posX;
+
+            // stores the piece type of the set mask bits only
+            int columns = rowMasks[row];
+            while (columns != 0) {
+                final int column = Integer.numberOfTrailingZeros(columns);
+                gameBoard[posY + row][posX + column] = id;
+                columnHeights[posX + column] = Math.max(columnHeights[posX + column], GameConstants.LINES - posY - row);
+                columns &= columns - 1;
             }
         }
+        lockedLine = posY;
+        lockedLineCount = rowMasks.length;
+        final PieceType lockedShape = currentShape;
         currentShape = null;
+        // a locked shape has no lock delay, so that the state stays valid until the next spawn
+        lockTicks = 0;
+        generation++;
+        if (event.shouldCommit()) {
+            event.pieceType = lockedShape.name();
+            event.posX = posX;
+            event.posY = posY;
+            event.boardHeight = getStackHeight();
+            event.commit();
+        }
+        engine.notifyShapeLocked(lockedShape, rotation, posX, posY);
     }
 
     /**
-     * Moves the current shape down by one line.
+     * Lets the current shape fall with the gravity of the current level and locks it after the lock delay.
+     * <p>
+     * The gravity is accumulated in sub-lines, so that the shape falls the whole lines reached in this tick.
+     * The new position is limited by the landing position, so falling many lines does not probe every line.
+     * The lock delay only restarts, when the shape falls, so moving and rotating on the stack cannot delay the lock forever.
+     * </p>
      */
-    public void fallOneLineDown() {
-        if (isPlaceable(currentShape, rotation, posX, posY + 1)) {
-            posY++;
-        } else {
+    private void applyGravity() {
+        fallingSubLines += Gravity.getSubLinesPerTick(Gravity.getLevel(engine.getStats().getRemovedLines()));
+        final int lines = fallingSubLines >>> Gravity.SUB_LINE_BITS;
+        fallingSubLines &= Gravity.SUB_LINES - 1;
+        if (lines > 0) {
+            final int newPosY = Math.min(posY + lines, getLandingPosY(currentShape, rotation, posX, posY));
+            if (newPosY != posY) {
+                posY = newPosY;
+                dirtyRegion.markDirty();
+                lockTicks = 0;
+            }
+        }
+
+        if (!isPlaceable(currentShape, rotation, posX, posY + 1) && ++lockTicks >= GameConstants.LOCK_DELAY_TICKS) {
             finishFalling();
         }
     }
@@ -121,64 +281,116 @@ public class Board {
      * Rotate the current shape.
      *
      * @param clockwise {@code true} if the rotation direction is clockwise, else {@code false}
+     * @return Returns {@code true} if the shape was rotated, else {@code false}.
      */
-    public void rotateShape(final boolean clockwise) {
+    public boolean rotateShape(final boolean clockwise) {
         final Rotation newRotation = clockwise ? rotation.next() : rotation.previous();
-        if (isPlaceable(currentShape, newRotation, posX, posY)) rotation = newRotation;
+        if (!isPlaceable(currentShape, newRotation, posX, posY)) {
+            return false;
+        }
+        rotation = newRotation;
+        dirtyRegion.markDirty();
+        return true;
     }
 
     /**
      * Moves the current shape on the X-axis.
      *
      * @param right {@code true} if the direction is right, else {@code false}
+     * @return Returns {@code true} if the shape was moved, else {@code false}.
      */
-    public void moveXAxis(final boolean right) {
+    public boolean moveXAxis(final boolean right) {
         int newXPos = right ? (posX + 1) : (posX - 1);
 
-        if (isPlaceable(currentShape, rotation, newXPos, posY)) {
-            posX = newXPos;
-            gameManager.getMainScreen().repaint();
+        if (!isPlaceable(currentShape, rotation, newXPos, posY)) {
+            return false;
         }
+        posX = newXPos;
+        dirtyRegion.markDirty();
+        return true;
     }
 
     /**
      * Drops the shape down.
      */
     public void dropShapeDown() {
-        final Block[][] rotatedShape = currentShape.getShape(rotation);
-        int newPosY = posY;
+        final int newPosY = getLandingPosY(currentShape, rotation, posX, posY);
+        posY = newPosY;
+        dirtyRegion.markDirty();
+        finishFalling();
+    }
 
-        while (newPosY < gameBoard.length - rotatedShape.length) {
-            if (!isPlaceable(currentShape, rotation, posX, newPosY + 1)) {
-                break;
+    /**
+     * Gets the Y-position, where a shape would land, when it is dropped down.
+     * <p>
+     * The landing position is calculated from the skyline and the bottom profile of the shape.
+     * Only if the shape is already below the skyline, e.g. tucked under an overhang,
+     * the lines below the shape are probed one by one.
+     * </p>
+     *
+     * @param shape The piece type of the shape.
+     * @param shapeRotation The rotation of the shape.
+     * @param shapePosX The X-position of the shape.
+     * @param shapePosY The Y-position of the shape, where it is placeable.
+     * @return Returns the Y-position of the landed shape.
+     */
+    public int getLandingPosY(final @NotNull PieceType shape, final @NotNull Rotation shapeRotation, final int shapePosX, final int shapePosY) {
+        int landingPosY = getSkylinePosY(shape, shapeRotation, shapePosX);
+        if (landingPosY >= shapePosY) {
+            return landingPosY;
+        }
+
+        landingPosY = shapePosY;
+        while (isPlaceable(shape, shapeRotation, shapePosX, landingPosY + 1)) {
+            landingPosY++;
+        }
+        return landingPosY;
+    }
+
+    /**
+     * Gets the Y-position, where a shape would land on the skyline.
+     * <p>
+     * Note: The position is only a valid landing position, if it is not above the current position of the shape,
+     * see {@link #getLandingPosY(PieceType, Rotation, int, int)}.
+     * </p>
+     *
+     * @param shape The piece type of the shape.
+     * @param shapeRotation The rotation of the shape.
+     * @param shapePosX The X-position of the shape.
+     * @return Returns the Y-position of the shape resting on the skyline.
+     */
+    public int getSkylinePosY(final @NotNull PieceType shape, final @NotNull Rotation shapeRotation, final int shapePosX) {
+        final int[] bottomProfile = shape.getBottomProfile(shapeRotation);
+        int skylinePosY = GameConstants.LINES;
+        for (int column = 0; column < bottomProfile.length; column++) {
+            if (bottomProfile[column] >= 0) {
+                skylinePosY = Math.min(skylinePosY, GameConstants.LINES - columnHeights[shapePosX + column] - 1 - bottomProfile[column]);
             }
-            newPosY++;
         }
-        posY = newPosY;
-        finishFalling();
+        return skylinePosY;
     }
 
     /**
      * Checks if the shape is placeable at this location.
      *
-     * @param shape The shape instance.
+     * @param shape The piece type of the shape.
      * @param newRotation The rotation to use for checking.
      * @param newPosX The X-position to check.
      * @param newPosY The Y-position to check.
      * @return Returns {@code true} if the shape is placeable at this location, else {@code false}.
      */
-    private boolean isPlaceable(final @NotNull Shape shape, final @NotNull Rotation newRotation, final int newPosX, final int newPosY) {
-        final Block[][] rotatedShape = shape.getShape(newRotation);
+    boolean isPlaceable(final @NotNull PieceType shape, final @NotNull Rotation newRotation, final int newPosX, final int newPosY) {
+        final int[] rowMasks = shape.getRowMasks(newRotation);
 
-        if (gameBoard[0].length < newPosX + rotatedShape[0].length || gameBoard.length < newPosY + rotatedShape.length || newPosX < 0) {
+        if (newPosX < 0 || occupancy.length < newPosY + rowMasks.length) {
             return false;
         }
 
-        for (int row = 0; row < rotatedShape.length; row++) {
-            for (int column = 0; column < rotatedShape[row].length; column++) {
-                if (rotatedShape[row][column] != null && gameBoard[newPosY + row][newPosX + column] != null)
-                    return false;
-            }
+        for (int row = 0; row < rowMasks.length; row++) {
+            final int shiftedMask = rowMasks[row] << newPosX;
+            // blocks shifted out of the board on the right side or colliding with the board
+            if ((shiftedMask & ~GameConstants.FULL_LINE_MASK) != 0 || (shiftedMask & occupancy[newPosY + row]) != 0)
+                return false;
         }
         return true;
     }
@@ -187,81 +399,225 @@ public class Board {
      * Represents a bord update.
      */
     public void update() {
-        if (gameManager.isPaused() || gameManager.isGameOver()) {
-            return;
-        }
-
+        final TickEvent event = new TickEvent();
+        event.begin();
         if (currentShape == null) {
-            removeFullLines();
-            gameManager.getMainScreen().getMainOverlayScreen().updateStatsText();
+            if (removeFullLines(lockedLine, lockedLineCount) > 0) {
+                engine.notifyStatsChanged();
+            }
+            lockedLineCount = 0;
             chooseNewShape();
         } else {
-            fallOneLineDown();
+            applyGravity();
+        }
+        if (event.shouldCommit()) {
+            event.tick = engine.getTickCount();
+            event.boardHeight = getStackHeight();
+            event.commit();
         }
-
     }
 
     /**
      * Clears the board.
      */
     private void clearBoard() {
-        for (Block[] blocks : gameBoard) {
-            Arrays.fill(blocks, null);
+        Arrays.fill(occupancy, 0);
+        Arrays.fill(columnHeights, 0);
+        generation++;
+        for (byte[] line : gameBoard) {
+            Arrays.fill(line, (byte) 0);
         }
     }
 
     /**
-     * Represents the logic, when the game enters the game-over state.
+     * Resets the board.
+     *
+     * @param seed The seed of the new piece sequence.
      */
-    private void doGamerOverLogic() {
-        gameManager.getTimer().stop();
+    public void reset(final long seed) {
+        pieceGenerator.reset(seed);
         currentShape = null;
-        gameManager.setGameOver(true);
-        gameManager.getMainScreen().updateTitle(StringConstants.WINDOW_TITLE_EXTENSION_GAME_OVER);
-
-        final int option = JOptionPane.showOptionDialog(
-                gameManager.getMainScreen(),
-                MessageFormat.format(StringConstants.DIALOG_MESSAGE_GAME_OVER, gameManager.getStats().getRemovedLines()),
-                StringConstants.WINDOW_TITLE_EXTENSION_GAME_OVER,
-                JOptionPane.YES_NO_OPTION,
-                JOptionPane.QUESTION_MESSAGE,
-                null,
-                new Object[]{"Yes", "No"},
-                "No");
-
-        if (option == JOptionPane.YES_OPTION) {
-            gameManager.resetGame();
-        } else {
-            System.exit(0);
+        lockedLine = 0;
+        lockedLineCount = 0;
+        posX = 0;
+        posY = 0;
+        rotation = Rotation.NORMAL;
+        fallingSubLines = 0;
+        lockTicks = 0;
+        clearBoard();
+        dirtyRegion.markDirty();
+    }
+
+    /**
+     * Writes the state of the board.
+     * <p>
+     * The piece sequence is stored as seed and draw count, every line as occupancy mask followed by the ids of its blocks.
+     * </p>
+     *
+     * @param buffer The buffer to write to.
+     */
+    void writeState(final @NotNull ByteBuffer buffer) {
+        buffer.putLong(pieceGenerator.getSeed());
+        Utils.putVarLong(buffer, pieceGenerator.getDrawCount());
+        buffer.put(currentShape == null ? 0 : currentShape.getId());
+        buffer.put((byte) posX).put((byte) posY).put((byte) (rotation == null ? 0 : rotation.ordinal()));
+        buffer.put((byte) lockedLine).put((byte) lockedLineCount);
+        Utils.putVarLong(buffer, fallingSubLines);
+        buffer.put((byte) lockTicks);
+        for (int line = 0; line < occupancy.length; line++) {
+            Utils.putVarLong(buffer, occupancy[line]);
+            int columns = occupancy[line];
+            while (columns != 0) {
+                buffer.put(gameBoard[line][Integer.numberOfTrailingZeros(columns)]);
+                columns &= columns - 1;
+            }
         }
     }
 
     /**
-     * Resets the board.
+     * Checks if an id belongs to a piece type.
+     *
+     * @param id The id to check.
+     * @return Returns {@code true} if the id is a piece type id, else {@code false}.
      */
-    public void reset() {
-        currentShape = null;
-        posX = 0;
-        posY = 0;
-        rotation = Rotation.NORMAL;
+    private static boolean isPieceId(final int id) {
+        return id > 0 && id <= PieceType.values().length;
+    }
+
+    /**
+     * Reads the state of the board written by {@link #writeState(ByteBuffer)}.
+     *
+     * @param buffer The buffer to read from.
+     * @throws BufferUnderflowException Thrown, when the buffer ends within the state.
+     * @throws IllegalArgumentException Thrown, when the state is invalid.
+     */
+    void readState(final @NotNull ByteBuffer buffer) {
+        pieceGenerator.restore(buffer.getLong(), Utils.getVarLong(buffer));
+        final byte shapeId = buffer.get();
+        if (shapeId != 0 && !isPieceId(shapeId)) {
+            throw new IllegalArgumentException("Invalid shape id " + shapeId);
+        }
+        currentShape = PieceType.fromId(shapeId);
+        posX = buffer.get();
+        posY = buffer.get();
+        if (posX < 0 || posX >= GameConstants.COLUMNS || posY < 0 || posY >= GameConstants.LINES) {
+            throw new IllegalArgumentException("Invalid position " + posX + ", " + posY);
+        }
+        final int rotationOrdinal = buffer.get();
+        if (rotationOrdinal < 0 || rotationOrdinal >= Rotation.values().length) {
+            throw new IllegalArgumentException("Invalid rotation " + rotationOrdinal);
+        }
+        rotation = Rotation.values()[rotationOrdinal];
+        lockedLine = buffer.get();
+        lockedLineCount = buffer.get();
+        if (lockedLine < 0 || lockedLine >= GameConstants.LINES || lockedLineCount < 0 || lockedLineCount > GameConstants.LINES - lockedLine) {
+            throw new IllegalArgumentException("Invalid locked lines " + lockedLine + ", " + lockedLineCount);
+        }
+        final long subLines = Utils.getVarLong(buffer);
+        if (subLines < 0 || subLines >= Gravity.SUB_LINES) {
+            throw new IllegalArgumentException("Invalid falling sub-lines " + subLines);
+        }
+        fallingSubLines = (int) subLines;
+        lockTicks = buffer.get();
+        if (lockTicks < 0 || lockTicks >= GameConstants.LOCK_DELAY_TICKS) {
+            throw new IllegalArgumentException("Invalid lock ticks " + lockTicks);
+        }
+
         clearBoard();
+        for (int line = 0; line < occupancy.length; line++) {
+            final int mask = (int) Utils.getVarLong(buffer);
+            if ((mask & ~GameConstants.FULL_LINE_MASK) != 0) {
+                throw new IllegalArgumentException("Invalid occupancy mask " + mask);
+            }
+            occupancy[line] = mask;
+            int columns = mask;
+            while (columns != 0) {
+                final byte id = buffer.get();
+                if (!isPieceId(id)) {
+                    throw new IllegalArgumentException("Invalid block id " + id);
+                }
+                gameBoard[line][Integer.numberOfTrailingZeros(columns)] = id;
+                columns &= columns - 1;
+            }
+        }
+        if (currentShape != null && !isPlaceable(currentShape, rotation, posX, posY)) {
+            throw new IllegalArgumentException("The shape is not placeable at " + posX + ", " + posY);
+        }
+        updateColumnHeights();
+        dirtyRegion.markDirty();
     }
 
     /**
      * Gets the game board.
+     * <p>
+     * Note: The returned array only contains the {@link PieceType} ids of the blocks, see {@link PieceType#fromId(int)}.
+     * Use {@link #getOccupancy()} for checking, which cells are filled.
+     * </p>
      *
      * @return Returns the game board.
      */
-    public @NotNull Block[][] getBoard() {
+    public byte @NotNull[] @NotNull[] getBoard() {
         return gameBoard;
     }
 
+    /**
+     * Gets the occupancy masks of the game board.
+     *
+     * @return Returns one occupancy mask per line, where bit {@code n} is set, when column {@code n} contains a block.
+     */
+    public int @NotNull[] getOccupancy() {
+        return occupancy;
+    }
+
+    /**
+     * Gets the skyline of the game board.
+     *
+     * @return Returns the height of the highest block per column, where {@code 0} is an empty column.
+     */
+    public int @NotNull[] getColumnHeights() {
+        return columnHeights;
+    }
+
+    /**
+     * Gets the generation of the board contents.
+     * <p>
+     * The generation changes, whenever blocks are locked into the board or lines are removed,
+     * but not while the current shape is moved.
+     * </p>
+     *
+     * @return Returns the generation.
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Gets the tracking, whether the board has changed since it was cleared the last time.
+     * <p>
+     * Note: The changes are only marked by the board, the user interface is responsible for clearing them after drawing.
+     * </p>
+     *
+     * @return Returns the dirty tracking of the board.
+     */
+    public @NotNull DirtyRegion getDirtyRegion() {
+        return dirtyRegion;
+    }
+
+    /**
+     * Gets the piece generator with the upcoming pieces.
+     *
+     * @return Returns the piece generator.
+     */
+    public @NotNull PieceGenerator getPieceGenerator() {
+        return pieceGenerator;
+    }
+
     /**
      * Gets the current shape.
      *
      * @return Returns the current shape.
      */
-    public @Nullable Shape getCurrentShape() {
+    public @Nullable PieceType getCurrentShape() {
         return currentShape;
     }
 
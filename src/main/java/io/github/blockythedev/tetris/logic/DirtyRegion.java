@@ -0,0 +1,58 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.logic;
+
+/**
+ * A class tracking, whether the board has changed since the last drawing.
+ * <p>
+ * The screen is rendered completely with every frame, so only the fact of a change is kept and not the changed cells.
+ * </p>
+ */
+public class DirtyRegion {
+    private boolean dirty;
+
+    /**
+     * Constructs an unchanged {@link DirtyRegion}.
+     */
+    public DirtyRegion() {
+        // the board is unchanged until it is marked
+    }
+
+    /**
+     * Marks the board as changed.
+     */
+    public void markDirty() {
+        dirty = true;
+    }
+
+    /**
+     * Marks the board as unchanged after drawing it.
+     */
+    public void clear() {
+        dirty = false;
+    }
+
+    /**
+     * Checks if the board has changed.
+     *
+     * @return Returns {@code true} if the board has changed since the last drawing, else {@code false}.
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+}
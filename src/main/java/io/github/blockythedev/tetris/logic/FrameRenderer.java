@@ -17,27 +17,18 @@
  */
 package io.github.blockythedev.tetris.logic;
 
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
-import org.jetbrains.annotations.NotNull;
-
 /**
- * A class for the timer action.
+ * A renderer called by the {@link GameLoop} for drawing a frame.
  */
-public class TetrisTimerListener implements ActionListener {
-    private final GameManager gameManager;
-
+@FunctionalInterface
+public interface FrameRenderer {
     /**
-     * Creates an instance of the {@link TetrisTimerListener}.
+     * Renders a frame, if anything has changed since the last frame.
+     * <p>
+     * Note: This method is called on the game loop thread.
+     * </p>
      *
-     * @param gameManager The game manager.
+     * @return Returns {@code true} if a frame was rendered, else {@code false}.
      */
-    public TetrisTimerListener(final @NotNull GameManager gameManager) {
-        this.gameManager = gameManager;
-    }
-
-    @Override
-    public void actionPerformed(final @NotNull ActionEvent event) {
-        gameManager.runGameCycle();
-    }
+    boolean render();
 }
@@ -0,0 +1,276 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.logic;
+
+import io.github.blockythedev.tetris.constants.GameConstants;
+import io.github.blockythedev.tetris.shapes.PieceType;
+import io.github.blockythedev.tetris.utils.Rotation;
+import io.github.blockythedev.tetris.utils.Stats;
+import io.github.blockythedev.tetris.utils.Utils;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The game engine containing all game rules without any dependency on a user interface.
+ * <p>
+ * The engine is driven by calling {@link #step()} for every game tick and {@link #applyInput(Input)} for every player input.
+ * State changes are reported to the {@link GameListener}.
+ * </p>
+ * <p>
+ * Note: Instances of this class are not thread-safe, an engine must only be driven by one thread at a time.
+ * </p>
+ */
+public class GameEngine {
+    /**
+     * The maximum number of bytes written by {@link #writeState(ByteBuffer)}.
+     */
+    public static final int MAX_STATE_BYTES = 4 * Utils.MAX_VAR_LONG_BYTES + Long.BYTES + 9
+            + GameConstants.LINES * (Utils.MAX_VAR_LONG_BYTES + GameConstants.COLUMNS);
+
+    private static final GameListener NO_LISTENER = new GameListener() {
+    };
+
+    private final Stats stats;
+    private final Board board;
+    private GameListener listener;
+    private boolean paused;
+    private boolean gameOver;
+    private long tickCount;
+
+    /**
+     * Constructs a {@link GameEngine}.
+     *
+     * @param stats The stats to use for this game.
+     * @param seed The seed of the piece sequence.
+     */
+    public GameEngine(final @NotNull Stats stats, final long seed) {
+        this.stats = stats;
+        listener = NO_LISTENER;
+        board = new Board(this, seed);
+    }
+
+    /**
+     * Represents a game tick.
+     */
+    public void step() {
+        if (paused || gameOver) {
+            return;
+        }
+
+        board.update();
+        tickCount++;
+        listener.onBoardChanged();
+    }
+
+    /**
+     * Applies a player input.
+     * <p>
+     * Inputs for the current shape are ignored, while the game is paused or no shape is falling.
+     * </p>
+     *
+     * @param input The input to apply.
+     */
+    public void applyInput(final @NotNull Input input) {
+        if (gameOver) {
+            return;
+        }
+
+        listener.onInput(input);
+        if (input == Input.TOGGLE_PAUSE) {
+            setPaused(!paused);
+            return;
+        }
+
+        if (paused || board.getCurrentShape() == null) {
+            return;
+        }
+
+        final boolean changed = switch (input) {
+            case MOVE_LEFT -> board.moveXAxis(false);
+            case MOVE_RIGHT -> board.moveXAxis(true);
+            case ROTATE_CLOCKWISE -> board.rotateShape(true);
+            case ROTATE_ANTI_CLOCKWISE -> board.rotateShape(false);
+            case DROP -> {
+                board.dropShapeDown();
+                yield true;
+            }
+            case TOGGLE_PAUSE -> false;
+        };
+
+        if (changed) {
+            listener.onBoardChanged();
+        }
+    }
+
+    /**
+     * Resets the game for a new run.
+     *
+     * @param seed The seed of the new piece sequence.
+     */
+    public void reset(final long seed) {
+        paused = false;
+        gameOver = false;
+        tickCount = 0;
+        stats.reset();
+        board.reset(seed);
+        listener.onStatsChanged();
+        listener.onBoardChanged();
+    }
+
+    /**
+     * Writes the complete state of the game, which can be restored with {@link #readState(ByteBuffer)}.
+     *
+     * @param buffer The buffer to write to, which must have at least {@link #MAX_STATE_BYTES} remaining.
+     */
+    public void writeState(final @NotNull ByteBuffer buffer) {
+        Utils.putVarLong(buffer, tickCount);
+        Utils.putVarLong(buffer, stats.getRemovedLines());
+        buffer.put((byte) ((paused ? 1 : 0) | (gameOver ? 2 : 0)));
+        board.writeState(buffer);
+    }
+
+    /**
+     * Restores the complete state of the game written by {@link #writeState(ByteBuffer)}.
+     *
+     * @param buffer The buffer to read from.
+     * @throws BufferUnderflowException Thrown, when the buffer ends within the state.
+     * @throws IllegalArgumentException Thrown, when the state is invalid.
+     */
+    public void readState(final @NotNull ByteBuffer buffer) {
+        tickCount = Utils.getVarLong(buffer);
+        stats.setRemovedLines(Math.toIntExact(Utils.getVarLong(buffer)));
+        final byte flags = buffer.get();
+        paused = (flags & 1) != 0;
+        gameOver = (flags & 2) != 0;
+        board.readState(buffer);
+        listener.onStatsChanged();
+        listener.onBoardChanged();
+    }
+
+    /**
+     * Notifies the listener about changed stats.
+     */
+    void notifyStatsChanged() {
+        listener.onStatsChanged();
+    }
+
+    /**
+     * Notifies the listener about a new shape.
+     */
+    void notifyShapeSpawned() {
+        listener.onShapeSpawned();
+    }
+
+    /**
+     * Notifies the listener about a locked shape.
+     *
+     * @param shape The piece type of the locked shape.
+     * @param rotation The rotation of the locked shape.
+     * @param posX The X-position of the locked shape.
+     * @param posY The Y-position of the locked shape.
+     */
+    void notifyShapeLocked(final @NotNull PieceType shape, final @NotNull Rotation rotation, final int posX, final int posY) {
+        listener.onShapeLocked(shape, rotation, posX, posY);
+    }
+
+    /**
+     * Notifies the listener about removed lines.
+     *
+     * @param lineMask The mask of the removed lines.
+     */
+    void notifyLinesCleared(final int lineMask) {
+        listener.onLinesCleared(lineMask);
+    }
+
+    /**
+     * Represents the logic, when the game enters the game-over state.
+     */
+    void triggerGameOver() {
+        gameOver = true;
+        listener.onGameOver();
+    }
+
+    /**
+     * Gets the number of ticks, which advanced the game.
+     * <p>
+     * Ticks while the game is paused are not counted, so that the tick count only depends on the course of the game.
+     * </p>
+     *
+     * @return Returns the tick count since the last reset.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Gets the games paused state.
+     *
+     * @return Returns {@code true} if the game is in the paused state, else {@code false}.
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Sets the paused state of the game.
+     *
+     * @param paused Whether the paused state should be set.
+     */
+    public void setPaused(final boolean paused) {
+        this.paused = paused;
+        listener.onPausedChanged(paused);
+    }
+
+    /**
+     * Gets the game-over state.
+     *
+     * @return Returns the game-over state.
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Sets the listener for the state changes.
+     *
+     * @param listener The listener or {@code null} for removing the current one.
+     */
+    public void setListener(final @Nullable GameListener listener) {
+        this.listener = listener == null ? NO_LISTENER : listener;
+    }
+
+    /**
+     * Gets the current stats.
+     *
+     * @return Returns the current stats.
+     */
+    public @NotNull Stats getStats() {
+        return stats;
+    }
+
+    /**
+     * Gets the current board.
+     *
+     * @return Returns the current board.
+     */
+    public @NotNull Board getBoard() {
+        return board;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.logic;
+
+import io.github.blockythedev.tetris.shapes.PieceType;
+import io.github.blockythedev.tetris.utils.Rotation;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A listener for the state changes of a {@link GameEngine}.
+ * <p>
+ * Note: The methods are called on the thread driving the engine.
+ * </p>
+ */
+public interface GameListener {
+    /**
+     * Called, when the board or the current shape has changed.
+     */
+    default void onBoardChanged() {
+        // not needed by default
+    }
+
+    /**
+     * Called, when an input is passed to the engine, before it is applied.
+     * <p>
+     * Note: Inputs are passed, even if they do not change the game, e.g. while it is paused.
+     * </p>
+     *
+     * @param input The input.
+     */
+    default void onInput(final @NotNull Input input) {
+        // not needed by default
+    }
+
+    /**
+     * Called, when a new shape has been spawned at the top of the board.
+     */
+    default void onShapeSpawned() {
+        // not needed by default
+    }
+
+    /**
+     * Called, when the current shape has been locked into the board.
+     *
+     * @param shape The piece type of the locked shape.
+     * @param rotation The rotation of the locked shape.
+     * @param posX The X-position of the locked shape.
+     * @param posY The Y-position of the locked shape.
+     */
+    default void onShapeLocked(final @NotNull PieceType shape, final @NotNull Rotation rotation, final int posX, final int posY) {
+        // not needed by default
+    }
+
+    /**
+     * Called, when full lines have been removed from the board.
+     *
+     * @param lineMask The mask of the removed lines, where bit {@code n} is set, when line {@code n} was removed.
+     *                 The lines are numbered before the removal and are removed from top to bottom.
+     */
+    default void onLinesCleared(final int lineMask) {
+        // not needed by default
+    }
+
+    /**
+     * Called, when the stats have changed.
+     */
+    default void onStatsChanged() {
+        // not needed by default
+    }
+
+    /**
+     * Called, when the paused state has changed.
+     *
+     * @param paused The new paused state.
+     */
+    default void onPausedChanged(final boolean paused) {
+        // not needed by default
+    }
+
+    /**
+     * Called, when the game enters the game-over state.
+     */
+    default void onGameOver() {
+        // not needed by default
+    }
+}
@@ -0,0 +1,422 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.logic;
+
+import io.github.blockythedev.tetris.metrics.GameMetrics;
+import io.github.blockythedev.tetris.utils.LatencyHistogram;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The game loop driving a {@link GameEngine} on its own thread.
+ * <p>
+ * The game logic is advanced with a fixed timestep, independent of the rendering.
+ * Frames are rendered at their own rate, which should match the display refresh rate.
+ * All engine changes of other threads must be passed to the loop with {@link #execute(Runnable)} or {@link #submit(Input)}.
+ * </p>
+ * <p>
+ * Key events are passed with their time to {@link #press(Input, long)} and {@link #release(Input, long)},
+ * the repetition of held shift keys is done by the loop with an {@link AutoShift} instead of the key repeat of the operating system.
+ * Every state change is rendered right away, so that it does not wait for the next frame.
+ * </p>
+ */
+public class GameLoop implements Runnable {
+    private static final Logger logger = Logger.getLogger(GameLoop.class.getName());
+    /**
+     * The maximum time between a key release and a press of the same key, which are caused by the key repeat of the operating system.
+     */
+    private static final long KEY_REPEAT_RELEASE_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+    /**
+     * The maximum number of missed ticks, which are caught up after the loop was stalled.
+     */
+    private static final int MAX_CATCH_UP_TICKS = 3;
+
+    private final GameEngine engine;
+    private final FrameRenderer renderer;
+    private final long tickIntervalNanos;
+    private final long frameIntervalNanos;
+    private final Queue<Runnable> tasks;
+    private final AutoShift autoShift;
+    private final boolean[] heldKeys;
+    private final long[] releaseTimes;
+    private volatile boolean running;
+    private volatile Thread thread;
+    private volatile long tickCount;
+    private volatile long frameCount;
+    private volatile long lastFrameIntervalNanos;
+    private volatile long lastFrameDurationNanos;
+    private volatile boolean renderRequested;
+    private final LatencyHistogram frameDurations;
+    private final LatencyHistogram inputLatencies;
+    private boolean inputPending;
+    private long pendingInputTime;
+
+    /**
+     * Constructs a {@link GameLoop}.
+     *
+     * @param engine The game engine to drive.
+     * @param tickIntervalNanos The fixed interval between two game ticks in nanoseconds.
+     * @param frameIntervalNanos The interval between two frames in nanoseconds.
+     * @param renderer The renderer for drawing the frames.
+     */
+    public GameLoop(final @NotNull GameEngine engine, final long tickIntervalNanos, final long frameIntervalNanos, final @NotNull FrameRenderer renderer) {
+        if (tickIntervalNanos <= 0 || frameIntervalNanos <= 0) {
+            throw new IllegalArgumentException("The intervals must be positive");
+        }
+        this.engine = engine;
+        this.renderer = renderer;
+        this.tickIntervalNanos = tickIntervalNanos;
+        this.frameIntervalNanos = frameIntervalNanos;
+        tasks = new ConcurrentLinkedQueue<>();
+        autoShift = new AutoShift(this::applyInput);
+        heldKeys = new boolean[Input.values().length];
+        releaseTimes = new long[Input.values().length];
+        Arrays.fill(releaseTimes, System.nanoTime() - KEY_REPEAT_RELEASE_NANOS);
+        frameDurations = new LatencyHistogram();
+        inputLatencies = new LatencyHistogram();
+    }
+
+    /**
+     * Starts the game loop thread.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this, "Tetris Game Loop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the game loop thread after the current iteration.
+     */
+    public synchronized void stop() {
+        running = false;
+        final Thread loopThread = thread;
+        if (loopThread != null) {
+            LockSupport.unpark(loopThread);
+        }
+    }
+
+    /**
+     * Stops the game loop thread and waits until it has finished.
+     * <p>
+     * Note: This must not be called from the game loop thread.
+     * </p>
+     *
+     * @throws InterruptedException Thrown, when the current thread is interrupted while waiting.
+     */
+    public void stopAndWait() throws InterruptedException {
+        stop();
+        final Thread loopThread = thread;
+        if (loopThread != null) {
+            loopThread.join();
+        }
+    }
+
+    /**
+     * Executes a task on the game loop thread before the next game tick.
+     *
+     * @param task The task to execute.
+     */
+    public void execute(final @NotNull Runnable task) {
+        tasks.add(task);
+        final Thread loopThread = thread;
+        if (loopThread != null) {
+            LockSupport.unpark(loopThread);
+        }
+    }
+
+    /**
+     * Requests a frame to be rendered by the game loop thread as soon as possible, e.g. after the screen was exposed.
+     */
+    public void requestRender() {
+        renderRequested = true;
+        final Thread loopThread = thread;
+        if (loopThread != null) {
+            LockSupport.unpark(loopThread);
+        }
+    }
+
+    /**
+     * Submits a player input, which is applied on the game loop thread.
+     *
+     * @param input The input to apply.
+     */
+    public void submit(final @NotNull Input input) {
+        final long submitTime = System.nanoTime();
+        execute(() -> applyInput(input, submitTime));
+    }
+
+    /**
+     * Passes a key press to the game loop.
+     * <p>
+     * Repeated presses of a held key are ignored.
+     * </p>
+     *
+     * @param input The input of the pressed key.
+     * @param timeNanos The time of the key event from {@link System#nanoTime()}.
+     */
+    public void press(final @NotNull Input input, final long timeNanos) {
+        execute(() -> pressKey(input, timeNanos));
+    }
+
+    /**
+     * Passes a key release to the game loop.
+     *
+     * @param input The input of the released key.
+     * @param timeNanos The time of the key event from {@link System#nanoTime()}.
+     */
+    public void release(final @NotNull Input input, final long timeNanos) {
+        execute(() -> releaseKey(input, timeNanos));
+    }
+
+    /**
+     * Releases all held keys, e.g. when the key events are lost because the focus has changed.
+     *
+     * @param timeNanos The time of the release from {@link System#nanoTime()}.
+     */
+    public void releaseAll(final long timeNanos) {
+        execute(() -> releaseAllKeys(timeNanos));
+    }
+
+    /**
+     * Handles a key press on the game loop thread.
+     *
+     * @param input The input of the pressed key.
+     * @param timeNanos The time of the key event in nanoseconds.
+     */
+    private void pressKey(final @NotNull Input input, final long timeNanos) {
+        final int key = input.ordinal();
+        if (heldKeys[key]) {
+            // the key repeat of the operating system without releases
+            return;
+        }
+        heldKeys[key] = true;
+        if (timeNanos - releaseTimes[key] < KEY_REPEAT_RELEASE_NANOS) {
+            // the key repeat of the operating system with a release before every press
+            if (AutoShift.isShift(input)) {
+                autoShift.resume(input);
+            }
+            return;
+        }
+        if (AutoShift.isShift(input)) {
+            autoShift.press(input, timeNanos);
+        } else {
+            applyInput(input, timeNanos);
+        }
+    }
+
+    /**
+     * Handles a key release on the game loop thread.
+     *
+     * @param input The input of the released key.
+     * @param timeNanos The time of the key event in nanoseconds.
+     */
+    private void releaseKey(final @NotNull Input input, final long timeNanos) {
+        final int key = input.ordinal();
+        heldKeys[key] = false;
+        releaseTimes[key] = timeNanos;
+        if (AutoShift.isShift(input)) {
+            autoShift.release(input, timeNanos);
+        }
+    }
+
+    /**
+     * Releases all held keys on the game loop thread.
+     * <p>
+     * The release times are kept, as a following press is not a repetition of the operating system.
+     * </p>
+     *
+     * @param timeNanos The time of the release in nanoseconds.
+     */
+    private void releaseAllKeys(final long timeNanos) {
+        for (final Input input : Input.values()) {
+            final int key = input.ordinal();
+            if (!heldKeys[key]) {
+                continue;
+            }
+            heldKeys[key] = false;
+            if (AutoShift.isShift(input)) {
+                autoShift.release(input, timeNanos);
+            }
+        }
+    }
+
+    /**
+     * Applies a submitted player input on the game loop thread.
+     *
+     * @param input The input to apply.
+     * @param submitTime The time of submitting the input in nanoseconds.
+     */
+    private void applyInput(final @NotNull Input input, final long submitTime) {
+        engine.applyInput(input);
+        if (GameMetrics.ENABLED) {
+            GameMetrics.recordInput(System.nanoTime() - submitTime);
+        }
+        // the latency until the input is visible is measured from the oldest input not yet shown
+        if (!inputPending && engine.getBoard().getDirtyRegion().isDirty()) {
+            inputPending = true;
+            pendingInputTime = submitTime;
+        }
+    }
+
+    @Override
+    public void run() {
+        long previousTime = System.nanoTime();
+        long lag = 0;
+        long nextFrameTime = previousTime;
+        long lastFrameTime = previousTime;
+
+        while (running) {
+            final long now = System.nanoTime();
+            // drops the ticks missed during a stall, e.g. a suspended machine, instead of playing them in a burst
+            lag = Math.min(lag + now - previousTime, MAX_CATCH_UP_TICKS * tickIntervalNanos);
+            previousTime = now;
+
+            try {
+                Runnable task;
+                while ((task = tasks.poll()) != null) {
+                    task.run();
+                }
+                autoShift.update(now);
+
+                while (lag >= tickIntervalNanos) {
+                    if (GameMetrics.ENABLED) {
+                        final long tickStart = System.nanoTime();
+                        engine.step();
+                        GameMetrics.recordTick(System.nanoTime() - tickStart);
+                    } else {
+                        engine.step();
+                    }
+                    tickCount++;
+                    lag -= tickIntervalNanos;
+                }
+
+                // renders the changes of the inputs and ticks right away, but only a scheduled frame advances the frame timing
+                final boolean frameDue = now - nextFrameTime >= 0;
+                if (frameDue || renderRequested || engine.getBoard().getDirtyRegion().isDirty()) {
+                    renderRequested = false;
+                    final long renderStartTime = System.nanoTime();
+                    if (renderer.render()) {
+                        final long renderedTime = System.nanoTime();
+                        lastFrameDurationNanos = renderedTime - renderStartTime;
+                        frameDurations.record(lastFrameDurationNanos);
+                        if (GameMetrics.ENABLED) {
+                            GameMetrics.recordPaint(lastFrameDurationNanos);
+                        }
+                        if (inputPending) {
+                            inputLatencies.record(renderedTime - pendingInputTime);
+                            inputPending = false;
+                        }
+                        lastFrameIntervalNanos = renderedTime - lastFrameTime;
+                        lastFrameTime = renderedTime;
+                        frameCount++;
+                    }
+                    if (frameDue) {
+                        // skips the missed frames instead of rendering them in a burst
+                        nextFrameTime = Math.max(nextFrameTime + frameIntervalNanos, now);
+                    }
+                }
+            } catch (final RuntimeException e) {
+                logger.log(Level.SEVERE, "Unexpected error in the game loop", e);
+            }
+
+            final long nextTickTime = now + (tickIntervalNanos - lag);
+            final long wakeUpTime = Math.min(nextTickTime, nextFrameTime);
+            final long sleepNanos = Math.min(wakeUpTime, autoShift.getNextShiftTime(wakeUpTime)) - System.nanoTime();
+            if (sleepNanos > 0 && tasks.isEmpty() && !renderRequested) {
+                LockSupport.parkNanos(this, sleepNanos);
+            }
+        }
+    }
+
+    /**
+     * Checks if the game loop thread is running.
+     *
+     * @return Returns {@code true} if the game loop is running, else {@code false}.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Gets the number of game ticks since the loop was created.
+     *
+     * @return Returns the number of game ticks.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Gets the number of rendered frames since the loop was created.
+     *
+     * @return Returns the number of rendered frames.
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Gets the time between the last two rendered frames.
+     *
+     * @return Returns the frame interval in nanoseconds.
+     */
+    public long getLastFrameIntervalNanos() {
+        return lastFrameIntervalNanos;
+    }
+
+    /**
+     * Gets the time needed for rendering the last frame.
+     *
+     * @return Returns the frame duration in nanoseconds.
+     */
+    public long getLastFrameDurationNanos() {
+        return lastFrameDurationNanos;
+    }
+
+    /**
+     * Gets the times needed for rendering the frames.
+     *
+     * @return Returns the histogram in nanoseconds.
+     */
+    public @NotNull LatencyHistogram getFrameDurations() {
+        return frameDurations;
+    }
+
+    /**
+     * Gets the times from submitting an input until the frame showing its effect was rendered.
+     * <p>
+     * Inputs without a visible effect are not measured.
+     * </p>
+     *
+     * @return Returns the histogram in nanoseconds.
+     */
+    public @NotNull LatencyHistogram getInputLatencies() {
+        return inputLatencies;
+    }
+}
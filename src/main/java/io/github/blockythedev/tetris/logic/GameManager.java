@@ -17,142 +17,299 @@
  */
 package io.github.blockythedev.tetris.logic;
 
+import io.github.blockythedev.tetris.bot.AutoPlayer;
+import io.github.blockythedev.tetris.bot.BeamSearch;
+import io.github.blockythedev.tetris.bot.HeuristicWeights;
 import io.github.blockythedev.tetris.constants.GameConstants;
 import io.github.blockythedev.tetris.constants.StringConstants;
+import io.github.blockythedev.tetris.constants.UiConstants;
+import io.github.blockythedev.tetris.metrics.GameMetrics;
+import io.github.blockythedev.tetris.replay.ReplayRecorder;
+import io.github.blockythedev.tetris.save.SaveLoader;
+import io.github.blockythedev.tetris.save.SaveWriter;
+import io.github.blockythedev.tetris.shapes.PieceType;
 import io.github.blockythedev.tetris.ui.MainScreen;
+import io.github.blockythedev.tetris.utils.Rotation;
 import io.github.blockythedev.tetris.utils.Stats;
-import javax.swing.Timer;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.swing.JOptionPane;
+import javax.swing.SwingUtilities;
 import org.jetbrains.annotations.NotNull;
 
 /**
- * This class contains all general logic for running the game.
+ * This class contains all general logic for running the game with the Swing user interface.
+ * <p>
+ * The game rules itself are contained in the {@link GameEngine}, this class only drives it and shows its state.
+ * The engine runs on the thread of the {@link GameLoop}, so all engine changes of the user interface are passed to the loop.
+ * Every game is recorded as replay into the {@link GameConstants#REPLAY_DIRECTORY}.
+ * The running game is saved into the {@link GameConstants#SAVE_DIRECTORY} and resumed on the next start,
+ * even if the application has crashed.
+ * </p>
  */
-public class GameManager {
-    private final Stats stats;
-    private final Board board;
+public class GameManager implements GameListener {
+    private static final Logger logger = Logger.getLogger(GameManager.class.getName());
+
+    private final GameEngine engine;
     private final MainScreen mainScreen;
-    private boolean paused;
-    private boolean gameOver;
-    private Timer timer;
+    private final AutoPlayer autoPlayer;
+    private GameLoop gameLoop;
+    private boolean autoPlayEnabled;
+    private ReplayRecorder recorder;
+    private SaveWriter saveWriter;
 
     /**
      * Constructs a {@link GameManager} for managing all central components.
      */
     public GameManager() {
-        stats = Stats.getInstance();
-        board = new Board(this);
-        initTimer();
+        engine = new GameEngine(new Stats(), ThreadLocalRandom.current().nextLong());
+        resumeSavedGame();
         mainScreen = new MainScreen(this);
+        mainScreen.getBlockContainerScreen().setRenderRequestHandler(() -> gameLoop.requestRender());
+        autoPlayer = new AutoPlayer(ForkJoinPool.commonPool(), new BeamSearch(ForkJoinPool.commonPool(), HeuristicWeights.DEFAULT));
+        initGameLoop();
+        startRecording();
+        startSaving();
+        engine.setListener(this);
+        GameMetrics.register();
         mainScreen.initUI();
     }
 
     /**
-     * Initializes the game timer.
+     * Resumes the saved game, if there is one, which is not over yet.
+     */
+    private void resumeSavedGame() {
+        try {
+            if (!SaveLoader.load(Path.of(GameConstants.SAVE_DIRECTORY), engine)) {
+                return;
+            }
+            if (!engine.isGameOver()) {
+                engine.setPaused(false);
+                logger.info(() -> "Resumed the saved game at tick " + engine.getTickCount());
+                return;
+            }
+        } catch (final IOException | RuntimeException e) {
+            logger.log(Level.WARNING, "Failed to resume the saved game, a new game is started", e);
+        }
+        engine.reset(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Starts the saving of the current game.
      */
-    private void initTimer() {
-        timer = new Timer(GameConstants.INTERVAL_FALLING_BLOCK_MS, new TetrisTimerListener(this));
+    private void startSaving() {
+        try {
+            saveWriter = SaveWriter.open(Path.of(GameConstants.SAVE_DIRECTORY));
+            saveWriter.writeSnapshot(engine);
+        } catch (final IOException e) {
+            logger.log(Level.WARNING, "Failed to start the saving", e);
+            saveWriter = null;
+        }
     }
 
     /**
-     * Represents a game cycle.
+     * Initializes the game loop.
      */
-    public void runGameCycle() {
-        board.update();
-        mainScreen.repaint();
+    private void initGameLoop() {
+        gameLoop = new GameLoop(engine,
+                TimeUnit.SECONDS.toNanos(1) / GameConstants.TICKS_PER_SECOND,
+                TimeUnit.SECONDS.toNanos(1) / UiConstants.REFRESH_RATE,
+                mainScreen.getBlockContainerScreen());
     }
 
     /**
      * Resets the game for a new run.
      */
     public void resetGame() {
-        paused = false;
-        gameOver = false;
-        stats.reset();
-        initTimer();
-        board.reset();
-        mainScreen.repaint();
-        mainScreen.getMainOverlayScreen().updateStatsText();
+        try {
+            gameLoop.stopAndWait();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        initGameLoop();
+        finishRecording();
+        engine.reset(ThreadLocalRandom.current().nextLong());
+        startRecording();
+        if (saveWriter != null) {
+            saveWriter.writeSnapshot(engine);
+        }
         mainScreen.updateTitle(StringConstants.WINDOW_TITLE_EXTENSION_READY);
         mainScreen.startGame();
     }
 
     /**
-     * Gets the games paused state.
-     *
-     * @return Returns {@code true} if the game is in the paused state, else {@code false}.
+     * Stops the game before the application exits, so that the replay is complete and the game is saved.
      */
-    public boolean isPaused() {
-        return paused;
+    public void shutdown() {
+        try {
+            gameLoop.stopAndWait();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        finishRecording();
+        if (saveWriter != null) {
+            if (!engine.isGameOver()) {
+                saveWriter.writeSnapshot(engine);
+            }
+            saveWriter.close();
+            saveWriter = null;
+        }
     }
 
     /**
-     * Sets the paused state of the game.
-     *
-     * @param paused Whether the paused state should be set.
+     * Starts the recording of the current game.
      */
-    public void setPaused(final boolean paused) {
-        this.paused = paused;
-        updatePausedTitle();
+    private void startRecording() {
+        try {
+            recorder = ReplayRecorder.start(Path.of(GameConstants.REPLAY_DIRECTORY), engine);
+        } catch (final IOException e) {
+            logger.log(Level.WARNING, "Failed to start the replay recording", e);
+            recorder = null;
+        }
     }
 
     /**
-     * Toggles the games paused state.
+     * Finishes the recording of the current game.
      */
-    public void togglePaused() {
-        paused = !paused;
-        updatePausedTitle();
+    private void finishRecording() {
+        if (recorder != null) {
+            recorder.finish(engine.getTickCount());
+            recorder = null;
+        }
     }
 
     /**
-     * Updates the main screen title to show whether the game is in paused state.
+     * Sets the paused state of the game.
+     *
+     * @param paused Whether the paused state should be set.
      */
-    private void updatePausedTitle() {
-        getMainScreen().updateTitle(paused ? StringConstants.WINDOW_TITLE_EXTENSION_PAUSED : StringConstants.WINDOW_TITLE_EXTENSION_RUNNING);
+    public void setPaused(final boolean paused) {
+        gameLoop.execute(() -> engine.setPaused(paused));
     }
 
     /**
-     * Gets the game-over state.
-     *
-     * @return Returns the game-over state.
+     * Toggles the bot playing the game.
      */
-    public boolean isGameOver() {
-        return gameOver;
+    public void toggleAutoPlayer() {
+        gameLoop.execute(() -> {
+            autoPlayEnabled = !autoPlayEnabled;
+            if (autoPlayEnabled) {
+                autoPlayer.requestPlacement(engine, gameLoop);
+            }
+        });
     }
 
-    /**
-     * Sets the game-over state.
-     *
-     * @param gameOver Whether the game-over state should be set.
-     */
-    public void setGameOver(final boolean gameOver) {
-        this.gameOver = gameOver;
+    @Override
+    public void onBoardChanged() {
+        if (recorder != null) {
+            recorder.recordState(engine);
+        }
+        if (saveWriter != null) {
+            saveWriter.recordState(engine);
+        }
     }
 
-    /**
-     * Gets the current stats.
-     *
-     * @return Returns the current stats.
-     */
-    public @NotNull Stats getStats() {
-        return stats;
+    @Override
+    public void onInput(final @NotNull Input input) {
+        if (recorder != null) {
+            recorder.recordInput(engine.getTickCount(), input);
+        }
+        if (saveWriter != null) {
+            saveWriter.recordInput(engine.getTickCount(), input);
+        }
+    }
+
+    @Override
+    public void onShapeSpawned() {
+        if (autoPlayEnabled) {
+            autoPlayer.requestPlacement(engine, gameLoop);
+        }
+    }
+
+    @Override
+    public void onShapeLocked(final @NotNull PieceType shape, final @NotNull Rotation rotation, final int posX, final int posY) {
+        if (GameMetrics.ENABLED) {
+            GameMetrics.countLock();
+        }
+    }
+
+    @Override
+    public void onLinesCleared(final int lineMask) {
+        if (GameMetrics.ENABLED) {
+            GameMetrics.countClearedLines(Integer.bitCount(lineMask));
+        }
+    }
+
+    @Override
+    public void onStatsChanged() {
+        SwingUtilities.invokeLater(mainScreen.getMainOverlayScreen()::updateStatsText);
+    }
+
+    @Override
+    public void onPausedChanged(final boolean paused) {
+        if (recorder != null) {
+            recorder.recordPaused(engine.getTickCount(), paused);
+        }
+        if (saveWriter != null) {
+            saveWriter.recordPaused(engine.getTickCount(), paused);
+        }
+        SwingUtilities.invokeLater(() -> mainScreen.updateTitle(paused ? StringConstants.WINDOW_TITLE_EXTENSION_PAUSED : StringConstants.WINDOW_TITLE_EXTENSION_RUNNING));
+    }
+
+    @Override
+    public void onGameOver() {
+        gameLoop.stop();
+        finishRecording();
+        if (saveWriter != null) {
+            // a finished game cannot be resumed
+            saveWriter.discard();
+        }
+
+        // shows the dialog after the current game cycle is finished
+        SwingUtilities.invokeLater(() -> {
+            mainScreen.updateTitle(StringConstants.WINDOW_TITLE_EXTENSION_GAME_OVER);
+            final int option = JOptionPane.showOptionDialog(
+                    mainScreen,
+                    MessageFormat.format(StringConstants.DIALOG_MESSAGE_GAME_OVER, engine.getStats().getRemovedLines()),
+                    StringConstants.WINDOW_TITLE_EXTENSION_GAME_OVER,
+                    JOptionPane.YES_NO_OPTION,
+                    JOptionPane.QUESTION_MESSAGE,
+                    null,
+                    new Object[]{"Yes", "No"},
+                    "No");
+
+            if (option == JOptionPane.YES_OPTION) {
+                resetGame();
+            } else {
+                shutdown();
+                System.exit(0);
+            }
+        });
     }
 
     /**
-     * Gets the current board.
+     * Gets the game engine.
      *
-     * @return Returns the current board.
+     * @return Returns the game engine.
      */
-    public @NotNull Board getBoard() {
-        return board;
+    public @NotNull GameEngine getEngine() {
+        return engine;
     }
 
     /**
-     * Gets the current timer.
+     * Gets the current game loop.
      *
-     * @return Returns the current timer.
+     * @return Returns the current game loop.
      */
-    public @NotNull Timer getTimer() {
-        return timer;
+    public @NotNull GameLoop getGameLoop() {
+        return gameLoop;
     }
 
     /**
@@ -0,0 +1,97 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.logic;
+
+import io.github.blockythedev.tetris.constants.GameConstants;
+
+/**
+ * The gravity curve, which lets the shapes fall faster with every level.
+ * <p>
+ * The gravity is given in sub-lines per tick as fixed-point number with {@link #SUB_LINE_BITS} fractional bits,
+ * so that shapes can fall less than one line per tick and the fall is the same on every machine.
+ * At level 1, a shape falls one line per second. The time per line follows {@code (0.8 - (level - 1) * 0.007)^(level - 1)} seconds
+ * and is limited to {@link GameConstants#MAX_GRAVITY_LINES} per tick, which is reached at level {@value #MAX_LEVEL}.
+ * </p>
+ */
+public final class Gravity {
+    /**
+     * The number of fractional bits of the gravity.
+     */
+    public static final int SUB_LINE_BITS = 16;
+    /**
+     * The number of sub-lines per line.
+     */
+    public static final int SUB_LINES = 1 << SUB_LINE_BITS;
+    /**
+     * The level, from which on the gravity does not increase anymore.
+     */
+    public static final int MAX_LEVEL = 19;
+
+    /**
+     * The sub-lines per tick of every level starting at level 1.
+     */
+    private static final int[] SUB_LINES_PER_TICK = createCurve();
+
+    /**
+     * Prevents the constructor from being called.
+     *
+     * @throws UnsupportedOperationException Thrown, when the constructor gets called.
+     */
+    private Gravity() {
+        throw new UnsupportedOperationException("Cannot instantiate class");
+    }
+
+    /**
+     * Creates the gravity of every level.
+     * <p>
+     * {@link StrictMath} is used, so that the curve is exactly the same on every machine.
+     * The gravity is rounded up, so that a shape never falls slower than the curve.
+     * </p>
+     *
+     * @return Returns the sub-lines per tick of every level starting at level 1.
+     */
+    private static int[] createCurve() {
+        final int[] curve = new int[MAX_LEVEL];
+        for (int level = 1; level <= MAX_LEVEL; level++) {
+            final double secondsPerLine = StrictMath.pow(0.8 - (level - 1) * 0.007, level - 1);
+            final double linesPerTick = 1 / (secondsPerLine * GameConstants.TICKS_PER_SECOND);
+            curve[level - 1] = (int) Math.min(StrictMath.ceil(linesPerTick * SUB_LINES), (long) GameConstants.MAX_GRAVITY_LINES * SUB_LINES);
+        }
+        return curve;
+    }
+
+    /**
+     * Gets the level reached with a number of removed lines.
+     *
+     * @param removedLines The number of removed lines.
+     * @return Returns the level starting at level 1.
+     */
+    public static int getLevel(final int removedLines) {
+        return 1 + removedLines / GameConstants.LINES_PER_LEVEL;
+    }
+
+    /**
+     * Gets the gravity of a level.
+     *
+     * @param level The level starting at level 1. Levels above {@link #MAX_LEVEL} have the gravity of the highest level.
+     * @return Returns the gravity in sub-lines per tick.
+     */
+    public static int getSubLinesPerTick(final int level) {
+        return SUB_LINES_PER_TICK[Math.clamp(level, 1, MAX_LEVEL) - 1];
+    }
+}
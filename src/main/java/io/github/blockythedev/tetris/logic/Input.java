@@ -0,0 +1,48 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.logic;
+
+/**
+ * This enum represents a player input, which can be applied to a {@link GameEngine}.
+ */
+public enum Input {
+    /**
+     * Moves the current shape one column to the left.
+     */
+    MOVE_LEFT,
+    /**
+     * Moves the current shape one column to the right.
+     */
+    MOVE_RIGHT,
+    /**
+     * Rotates the current shape clockwise.
+     */
+    ROTATE_CLOCKWISE,
+    /**
+     * Rotates the current shape anti-clockwise.
+     */
+    ROTATE_ANTI_CLOCKWISE,
+    /**
+     * Drops the current shape down.
+     */
+    DROP,
+    /**
+     * Toggles the paused state of the game.
+     */
+    TOGGLE_PAUSE
+}
@@ -17,14 +17,27 @@
  */
 package io.github.blockythedev.tetris.logic;
 
+import java.awt.event.FocusEvent;
+import java.awt.event.FocusListener;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
+import java.util.concurrent.TimeUnit;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A class for listening for key inputs.
+ * <p>
+ * The presses and releases are passed with their time to the {@link GameLoop}, which handles the repetition of held keys.
+ * As the releases are not received without the focus, all held keys are released when the focus is lost.
+ * </p>
  */
-public class KeyManager implements KeyListener {
+public class KeyManager implements KeyListener, FocusListener {
+    /**
+     * The maximum delay of a key event, which is taken into account for its time.
+     */
+    private static final long MAX_EVENT_DELAY_MS = 1000;
+
     private final GameManager gameManager;
 
     /**
@@ -38,40 +51,73 @@ public class KeyManager implements KeyListener {
 
     @Override
     public void keyPressed(final @NotNull KeyEvent event) {
-        if (gameManager.isGameOver()) {
+        if (event.getKeyCode() == KeyEvent.VK_B) {
+            gameManager.toggleAutoPlayer();
+            return;
+        }
+        if (event.getKeyCode() == KeyEvent.VK_F3) {
+            gameManager.getMainScreen().getMainOverlayScreen().togglePerformanceHud();
             return;
         }
 
-        final Board board = gameManager.getBoard();
-        switch (event.getKeyCode()) {
-            case KeyEvent.VK_LEFT, KeyEvent.VK_KP_LEFT, KeyEvent.VK_A -> executeBoardShapeAction(() -> board.moveXAxis(false));
-            case KeyEvent.VK_RIGHT, KeyEvent.VK_KP_RIGHT, KeyEvent.VK_D -> executeBoardShapeAction(() -> board.moveXAxis(true));
-            case KeyEvent.VK_UP, KeyEvent.VK_KP_UP, KeyEvent.VK_W -> executeBoardShapeAction(() -> board.rotateShape(true));
-            case KeyEvent.VK_DOWN, KeyEvent.VK_KP_DOWN, KeyEvent.VK_S -> executeBoardShapeAction(() -> board.rotateShape(false));
-            case KeyEvent.VK_SPACE -> executeBoardShapeAction(board::dropShapeDown);
-            case KeyEvent.VK_PAUSE, KeyEvent.VK_P -> gameManager.togglePaused();
+        final Input input = getInput(event);
+        if (input != null) {
+            gameManager.getGameLoop().press(input, getEventTime(event));
         }
     }
 
     @Override
-    public void keyReleased(@NotNull final KeyEvent e) {
-        // not needed
+    public void keyReleased(final @NotNull KeyEvent event) {
+        final Input input = getInput(event);
+        if (input != null) {
+            gameManager.getGameLoop().release(input, getEventTime(event));
+        }
     }
 
-    @Override
-    public void keyTyped(@NotNull final KeyEvent e) {
-        // not needed
+    /**
+     * Gets the input of a key.
+     *
+     * @param event The key event.
+     * @return Returns the input or {@code null}, if the key has no input.
+     */
+    private static @Nullable Input getInput(final @NotNull KeyEvent event) {
+        return switch (event.getKeyCode()) {
+            case KeyEvent.VK_LEFT, KeyEvent.VK_KP_LEFT, KeyEvent.VK_A -> Input.MOVE_LEFT;
+            case KeyEvent.VK_RIGHT, KeyEvent.VK_KP_RIGHT, KeyEvent.VK_D -> Input.MOVE_RIGHT;
+            case KeyEvent.VK_UP, KeyEvent.VK_KP_UP, KeyEvent.VK_W -> Input.ROTATE_CLOCKWISE;
+            case KeyEvent.VK_DOWN, KeyEvent.VK_KP_DOWN, KeyEvent.VK_S -> Input.ROTATE_ANTI_CLOCKWISE;
+            case KeyEvent.VK_SPACE -> Input.DROP;
+            case KeyEvent.VK_PAUSE, KeyEvent.VK_P -> Input.TOGGLE_PAUSE;
+            default -> null;
+        };
     }
 
     /**
-     * Executes the given board action if the game is not paused and the current shape is not null.
+     * Gets the time of a key event on the scale of {@link System#nanoTime()}.
+     * <p>
+     * The event time has only a millisecond resolution, so it is only used to include the delay of the event queue.
+     * </p>
      *
-     * @param action The action to execute if needed.
+     * @param event The key event.
+     * @return Returns the time in nanoseconds.
      */
-    private void executeBoardShapeAction(final @NotNull Runnable action) {
-        final Board board = gameManager.getBoard();
-        if (!gameManager.isPaused() && board.getCurrentShape() != null) {
-            action.run();
-        }
+    private static long getEventTime(final @NotNull KeyEvent event) {
+        final long delayMillis = Math.clamp(System.currentTimeMillis() - event.getWhen(), 0, MAX_EVENT_DELAY_MS);
+        return System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(delayMillis);
+    }
+
+    @Override
+    public void keyTyped(@NotNull final KeyEvent e) {
+        // not needed
+    }
+
+    @Override
+    public void focusGained(final @NotNull FocusEvent event) {
+        // not needed
+    }
+
+    @Override
+    public void focusLost(final @NotNull FocusEvent event) {
+        gameManager.getGameLoop().releaseAll(System.nanoTime());
     }
 }
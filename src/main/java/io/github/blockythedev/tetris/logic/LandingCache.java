@@ -0,0 +1,77 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.logic;
+
+import io.github.blockythedev.tetris.constants.GameConstants;
+import io.github.blockythedev.tetris.shapes.PieceType;
+import io.github.blockythedev.tetris.utils.Rotation;
+import java.util.Arrays;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A cache for the landing positions of the shapes on a board.
+ * <p>
+ * The landing positions are cached per piece type, rotation and X-position.
+ * Every entry is stamped with the {@link Board#getGeneration() generation} of the board it was calculated for,
+ * so that all entries are invalidated at once, when blocks are locked or lines are removed.
+ * </p>
+ */
+public class LandingCache {
+    private static final int ROTATIONS = Rotation.values().length;
+
+    private final Board board;
+    private final int[] landingPositions;
+    private final int[] generations;
+
+    /**
+     * Constructs an empty landing cache.
+     *
+     * @param board The board to calculate the landing positions for.
+     */
+    public LandingCache(final @NotNull Board board) {
+        this.board = board;
+        final int size = PieceType.values().length * ROTATIONS * GameConstants.COLUMNS;
+        landingPositions = new int[size];
+        generations = new int[size];
+        // the board generation may start anywhere, so every entry is invalid until it is calculated the first time
+        Arrays.fill(generations, board.getGeneration() - 1);
+    }
+
+    /**
+     * Gets the Y-position, where a shape would land, when it is dropped down.
+     *
+     * @param shape The piece type of the shape.
+     * @param rotation The rotation of the shape.
+     * @param posX The X-position of the shape.
+     * @param posY The Y-position of the shape, where it is placeable.
+     * @return Returns the Y-position of the landed shape.
+     * @see Board#getLandingPosY(PieceType, Rotation, int, int)
+     */
+    public int getLandingPosY(final @NotNull PieceType shape, final @NotNull Rotation rotation, final int posX, final int posY) {
+        final int generation = board.getGeneration();
+        final int index = (shape.ordinal() * ROTATIONS + rotation.ordinal()) * GameConstants.COLUMNS + posX;
+        if (generations[index] != generation) {
+            landingPositions[index] = board.getSkylinePosY(shape, rotation, posX);
+            generations[index] = generation;
+        }
+
+        final int landingPosY = landingPositions[index];
+        // the shape is below the skyline, which depends on its current position and is not cached
+        return landingPosY >= posY ? landingPosY : board.getLandingPosY(shape, rotation, posX, posY);
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.metrics;
+
+import io.github.blockythedev.tetris.utils.LatencyHistogram;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The instrumentation of the game cycle, which records the tick, paint and input durations into {@link LatencyHistogram}s
+ * and counts the locked shapes and cleared lines.
+ * <p>
+ * The metrics are only recorded, when the application is started with {@code -Dtetris.metrics=true}.
+ * Every call site checks {@link #ENABLED} first, which is a constant for the JIT compiler, so the disabled
+ * instrumentation is removed from the compiled code. Recording does not allocate, because the histograms have a fixed size.
+ * The metrics are exposed as {@link GameMetricsMXBean} under the name {@value #OBJECT_NAME}.
+ * </p>
+ */
+public final class GameMetrics {
+    /**
+     * Whether the metrics are recorded.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("tetris.metrics");
+    /**
+     * The name of the registered MBean.
+     */
+    public static final String OBJECT_NAME = "io.github.blockythedev.tetris:type=GameMetrics";
+
+    private static final Logger logger = Logger.getLogger(GameMetrics.class.getName());
+    private static final LatencyHistogram tickDurations = new LatencyHistogram();
+    private static final LatencyHistogram paintDurations = new LatencyHistogram();
+    private static final LatencyHistogram inputLatencies = new LatencyHistogram();
+    private static final AtomicLong lockCount = new AtomicLong();
+    private static final AtomicLong clearedLineCount = new AtomicLong();
+
+    /**
+     * Prevents the constructor from being called.
+     *
+     * @throws UnsupportedOperationException Thrown, when the constructor gets called.
+     */
+    private GameMetrics() {
+        throw new UnsupportedOperationException("Cannot instantiate class");
+    }
+
+    /**
+     * Registers the MBean at the platform MBean server, if the metrics are enabled.
+     */
+    public static synchronized void register() {
+        if (!ENABLED) {
+            return;
+        }
+        try {
+            final ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(new Bean(), name);
+            }
+        } catch (final JMException e) {
+            logger.log(Level.WARNING, "Failed to register the metrics MBean", e);
+        }
+    }
+
+    /**
+     * Records the duration of a game tick.
+     *
+     * @param nanos The duration in nanoseconds.
+     */
+    public static void recordTick(final long nanos) {
+        tickDurations.record(nanos);
+    }
+
+    /**
+     * Records the duration of painting a frame.
+     *
+     * @param nanos The duration in nanoseconds.
+     */
+    public static void recordPaint(final long nanos) {
+        paintDurations.record(nanos);
+    }
+
+    /**
+     * Records the time from submitting an input until it was applied.
+     *
+     * @param nanos The latency in nanoseconds.
+     */
+    public static void recordInput(final long nanos) {
+        inputLatencies.record(nanos);
+    }
+
+    /**
+     * Counts a locked shape.
+     */
+    public static void countLock() {
+        lockCount.incrementAndGet();
+    }
+
+    /**
+     * Counts cleared lines.
+     *
+     * @param lines The number of cleared lines.
+     */
+    public static void countClearedLines(final int lines) {
+        clearedLineCount.addAndGet(lines);
+    }
+
+    /**
+     * Gets the durations of the game ticks.
+     *
+     * @return Returns the histogram in nanoseconds.
+     */
+    public static @NotNull LatencyHistogram getTickDurations() {
+        return tickDurations;
+    }
+
+    /**
+     * Gets the durations of painting the frames.
+     *
+     * @return Returns the histogram in nanoseconds.
+     */
+    public static @NotNull LatencyHistogram getPaintDurations() {
+        return paintDurations;
+    }
+
+    /**
+     * Gets the times from submitting an input until it was applied.
+     *
+     * @return Returns the histogram in nanoseconds.
+     */
+    public static @NotNull LatencyHistogram getInputLatencies() {
+        return inputLatencies;
+    }
+
+    /**
+     * The MBean reading the metrics.
+     */
+    private static final class Bean implements GameMetricsMXBean {
+        @Override
+        public long getTickCount() {
+            return tickDurations.getCount();
+        }
+
+        @Override
+        public long getTickP50Nanos() {
+            return tickDurations.getPercentile(50);
+        }
+
+        @Override
+        public long getTickP99Nanos() {
+            return tickDurations.getPercentile(99);
+        }
+
+        @Override
+        public long getTickMaxNanos() {
+            return tickDurations.getMax();
+        }
+
+        @Override
+        public long getPaintCount() {
+            return paintDurations.getCount();
+        }
+
+        @Override
+        public long getPaintP50Nanos() {
+            return paintDurations.getPercentile(50);
+        }
+
+        @Override
+        public long getPaintP99Nanos() {
+            return paintDurations.getPercentile(99);
+        }
+
+        @Override
+        public long getPaintMaxNanos() {
+            return paintDurations.getMax();
+        }
+
+        @Override
+        public long getInputCount() {
+            return inputLatencies.getCount();
+        }
+
+        @Override
+        public long getInputP50Nanos() {
+            return inputLatencies.getPercentile(50);
+        }
+
+        @Override
+        public long getInputP99Nanos() {
+            return inputLatencies.getPercentile(99);
+        }
+
+        @Override
+        public long getInputMaxNanos() {
+            return inputLatencies.getMax();
+        }
+
+        @Override
+        public long getLockCount() {
+            return lockCount.get();
+        }
+
+        @Override
+        public long getClearedLineCount() {
+            return clearedLineCount.get();
+        }
+
+        @Override
+        public void reset() {
+            tickDurations.reset();
+            paintDurations.reset();
+            inputLatencies.reset();
+            lockCount.set(0);
+            clearedLineCount.set(0);
+        }
+    }
+}
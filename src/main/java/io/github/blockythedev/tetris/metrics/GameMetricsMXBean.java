@@ -0,0 +1,129 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.metrics;
+
+/**
+ * The management interface of the {@link GameMetrics}.
+ * <p>
+ * All durations are given in nanoseconds.
+ * </p>
+ */
+public interface GameMetricsMXBean {
+    /**
+     * Gets the number of measured game ticks.
+     *
+     * @return Returns the number of ticks.
+     */
+    long getTickCount();
+
+    /**
+     * Gets the median duration of a game tick.
+     *
+     * @return Returns the 50th percentile in nanoseconds.
+     */
+    long getTickP50Nanos();
+
+    /**
+     * Gets the 99th percentile of the game tick duration.
+     *
+     * @return Returns the 99th percentile in nanoseconds.
+     */
+    long getTickP99Nanos();
+
+    /**
+     * Gets the longest game tick.
+     *
+     * @return Returns the maximum in nanoseconds.
+     */
+    long getTickMaxNanos();
+
+    /**
+     * Gets the number of measured frames.
+     *
+     * @return Returns the number of frames.
+     */
+    long getPaintCount();
+
+    /**
+     * Gets the median duration of painting a frame.
+     *
+     * @return Returns the 50th percentile in nanoseconds.
+     */
+    long getPaintP50Nanos();
+
+    /**
+     * Gets the 99th percentile of the frame painting duration.
+     *
+     * @return Returns the 99th percentile in nanoseconds.
+     */
+    long getPaintP99Nanos();
+
+    /**
+     * Gets the longest frame painting.
+     *
+     * @return Returns the maximum in nanoseconds.
+     */
+    long getPaintMaxNanos();
+
+    /**
+     * Gets the number of measured inputs.
+     *
+     * @return Returns the number of inputs.
+     */
+    long getInputCount();
+
+    /**
+     * Gets the median time from submitting an input until it is applied.
+     *
+     * @return Returns the 50th percentile in nanoseconds.
+     */
+    long getInputP50Nanos();
+
+    /**
+     * Gets the 99th percentile of the time from submitting an input until it is applied.
+     *
+     * @return Returns the 99th percentile in nanoseconds.
+     */
+    long getInputP99Nanos();
+
+    /**
+     * Gets the longest time from submitting an input until it is applied.
+     *
+     * @return Returns the maximum in nanoseconds.
+     */
+    long getInputMaxNanos();
+
+    /**
+     * Gets the number of locked shapes.
+     *
+     * @return Returns the number of locks.
+     */
+    long getLockCount();
+
+    /**
+     * Gets the number of cleared lines.
+     *
+     * @return Returns the number of lines.
+     */
+    long getClearedLineCount();
+
+    /**
+     * Removes all recorded durations and resets the counters.
+     */
+    void reset();
+}
@@ -0,0 +1,58 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The Java Flight Recorder event of the full lines, which were removed from the board.
+ */
+@Name("io.github.blockythedev.tetris.LineClear")
+@Label("Line Clear")
+@Category("Tetris")
+@Description("Full lines were removed from the board")
+@StackTrace(false)
+public final class LineClearEvent extends Event {
+    /**
+     * The number of removed lines.
+     */
+    @Label("Lines Cleared")
+    public int linesCleared;
+    /**
+     * The mask of the removed lines, bit {@code n} stands for line {@code n} from the top.
+     */
+    @Label("Line Mask")
+    public int lineMask;
+    /**
+     * The height of the highest column after the removal.
+     */
+    @Label("Board Height")
+    public int boardHeight;
+
+    /**
+     * Constructs a {@link LineClearEvent}, which must be committed to be recorded.
+     */
+    public LineClearEvent() {
+        // the fields are set before committing
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The Java Flight Recorder event of a shape, which was locked into the board.
+ */
+@Name("io.github.blockythedev.tetris.Lock")
+@Label("Shape Lock")
+@Category("Tetris")
+@Description("A shape was locked into the board")
+@StackTrace(false)
+public final class LockEvent extends Event {
+    /**
+     * The piece type of the locked shape.
+     */
+    @Label("Piece Type")
+    public String pieceType;
+    /**
+     * The x-position of the locked shape.
+     */
+    @Label("X")
+    public int posX;
+    /**
+     * The y-position of the locked shape.
+     */
+    @Label("Y")
+    public int posY;
+    /**
+     * The height of the highest column after locking.
+     */
+    @Label("Board Height")
+    public int boardHeight;
+
+    /**
+     * Constructs a {@link LockEvent}, which must be committed to be recorded.
+     */
+    public LockEvent() {
+        // the fields are set before committing
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The Java Flight Recorder event of drawing the board onto the screen.
+ */
+@Name("io.github.blockythedev.tetris.Paint")
+@Label("Board Paint")
+@Category("Tetris")
+@Description("The board was drawn onto the screen")
+@StackTrace(false)
+public final class PaintEvent extends Event {
+    /**
+     * The number of drawn cells, including the ghost and the current shape.
+     */
+    @Label("Cells Drawn")
+    public int cellsDrawn;
+    /**
+     * Whether the frame was requested by the screen, e.g. because it was exposed, instead of being drawn for board changes.
+     */
+    @Label("Requested")
+    public boolean requested;
+
+    /**
+     * Constructs a {@link PaintEvent}, which must be committed to be recorded.
+     */
+    public PaintEvent() {
+        // the fields are set before committing
+    }
+}
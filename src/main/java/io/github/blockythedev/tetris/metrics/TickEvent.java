@@ -0,0 +1,53 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The Java Flight Recorder event of a board update, which is one game tick.
+ */
+@Name("io.github.blockythedev.tetris.Tick")
+@Label("Board Update")
+@Category("Tetris")
+@Description("A board update, which is one game tick")
+@StackTrace(false)
+public final class TickEvent extends Event {
+    /**
+     * The number of ticks before this tick.
+     */
+    @Label("Tick")
+    public long tick;
+    /**
+     * The height of the highest column after the update.
+     */
+    @Label("Board Height")
+    public int boardHeight;
+
+    /**
+     * Constructs a {@link TickEvent}, which must be committed to be recorded.
+     */
+    public TickEvent() {
+        // the fields are set before committing
+    }
+}
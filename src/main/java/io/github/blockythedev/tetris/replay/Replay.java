@@ -0,0 +1,175 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.replay;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A recorded game, which can be played again with a {@link ReplayPlayer}.
+ * <p>
+ * The replay file is memory-mapped, so that opening a replay only reads the header and the trailer.
+ * The keyframe index and the events are read from the mapped view, when they are accessed.
+ * </p>
+ */
+public class Replay {
+    private final ByteBuffer data;
+    private final long seed;
+    private final int eventsEnd;
+    private final int keyframeCount;
+
+    /**
+     * Constructs a {@link Replay}.
+     *
+     * @param data The read-only view of the whole replay file.
+     * @param seed The seed of the game.
+     * @param eventsEnd The offset after the last event, which is the offset of the keyframe index.
+     * @param keyframeCount The number of keyframes.
+     */
+    private Replay(final @NotNull ByteBuffer data, final long seed, final int eventsEnd, final int keyframeCount) {
+        this.data = data;
+        this.seed = seed;
+        this.eventsEnd = eventsEnd;
+        this.keyframeCount = keyframeCount;
+    }
+
+    /**
+     * Opens a replay file.
+     *
+     * @param path The path of the replay file.
+     * @return Returns the replay.
+     * @throws IOException Thrown, when the file could not be read or is not a valid replay.
+     */
+    public static @NotNull Replay open(final @NotNull Path path) throws IOException {
+        final MappedByteBuffer data;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // the mapping stays valid after the channel is closed
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        final int size = data.limit();
+        if (size < ReplayFormat.HEADER_BYTES || !hasMagic(data, 0) || data.get(ReplayFormat.MAGIC.length) != ReplayFormat.VERSION) {
+            throw new IOException("Not a replay of version " + ReplayFormat.VERSION + ": " + path);
+        }
+        final long seed = data.getLong(ReplayFormat.MAGIC.length + 1);
+
+        // a replay without trailer was not finished, so all remaining bytes are events
+        int eventsEnd = size;
+        int keyframeCount = 0;
+        if (size >= ReplayFormat.HEADER_BYTES + ReplayFormat.TRAILER_BYTES
+                && hasMagic(data, size - ReplayFormat.MAGIC.length)) {
+            final int trailerOffset = size - ReplayFormat.TRAILER_BYTES;
+            keyframeCount = data.getInt(trailerOffset);
+            final long indexOffset = data.getLong(trailerOffset + Integer.BYTES);
+            if (keyframeCount < 0 || indexOffset < ReplayFormat.HEADER_BYTES
+                    || indexOffset + (long) keyframeCount * ReplayFormat.INDEX_ENTRY_BYTES != trailerOffset) {
+                throw new IOException("Corrupt keyframe index: " + path);
+            }
+            eventsEnd = (int) indexOffset;
+        }
+        return new Replay(data.asReadOnlyBuffer(), seed, eventsEnd, keyframeCount);
+    }
+
+    /**
+     * Checks, if the magic bytes are located at an offset.
+     *
+     * @param data The data to check.
+     * @param offset The offset of the magic bytes.
+     * @return Returns {@code true} if the magic bytes were found, else {@code false}.
+     */
+    private static boolean hasMagic(final @NotNull ByteBuffer data, final int offset) {
+        final byte[] magic = new byte[ReplayFormat.MAGIC.length];
+        data.get(offset, magic);
+        return Arrays.equals(magic, ReplayFormat.MAGIC);
+    }
+
+    /**
+     * Gets a new view of the events.
+     *
+     * @return Returns a buffer positioned at the first event, which ends after the last event.
+     */
+    @NotNull ByteBuffer events() {
+        return data.duplicate().limit(eventsEnd).position(ReplayFormat.HEADER_BYTES);
+    }
+
+    /**
+     * Finds the last keyframe at or before a tick.
+     *
+     * @param tick The tick.
+     * @return Returns the index of the keyframe or {@code -1}, if there is none.
+     */
+    public int findKeyframe(final long tick) {
+        int low = 0;
+        int high = keyframeCount - 1;
+        int found = -1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            if (getKeyframeTick(middle) <= tick) {
+                found = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Gets the tick of a keyframe.
+     *
+     * @param keyframe The index of the keyframe.
+     * @return Returns the tick.
+     */
+    public long getKeyframeTick(final int keyframe) {
+        return data.getLong(eventsEnd + keyframe * ReplayFormat.INDEX_ENTRY_BYTES);
+    }
+
+    /**
+     * Gets the file offset of the length of a keyframe.
+     *
+     * @param keyframe The index of the keyframe.
+     * @return Returns the offset.
+     */
+    int getKeyframeOffset(final int keyframe) {
+        return Math.toIntExact(data.getLong(eventsEnd + keyframe * ReplayFormat.INDEX_ENTRY_BYTES + Long.BYTES));
+    }
+
+    /**
+     * Gets the number of keyframes.
+     *
+     * @return Returns the keyframe count.
+     */
+    public int getKeyframeCount() {
+        return keyframeCount;
+    }
+
+    /**
+     * Gets the seed of the game.
+     *
+     * @return Returns the seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.replay;
+
+import io.github.blockythedev.tetris.logic.GameEngine;
+import io.github.blockythedev.tetris.logic.Input;
+import java.nio.ByteBuffer;
+
+/**
+ * A final class containing the constants of the binary replay format.
+ * <p>
+ * A replay starts with the {@link #MAGIC} bytes, the {@link #VERSION} and the seed of the game as 8-byte long.
+ * It is followed by one unsigned LEB128 varint per event, containing the ticks since the previous event
+ * shifted left by {@link #CODE_BITS} and the event code in the lower bits.
+ * The event code is the ordinal of the {@link Input}, {@link #KEYFRAME_CODE} or {@link #END_CODE} for the last tick of the game.
+ * As most inputs happen within a few ticks, an event usually takes one or two bytes.
+ * </p>
+ * <p>
+ * A keyframe event is followed by the length of the keyframe as varint and the state written by {@link GameEngine#writeState(ByteBuffer)}.
+ * After the events, the keyframe index contains the tick and the file offset of the length of every keyframe as 8-byte longs.
+ * The file ends with the {@link #TRAILER_BYTES} trailer containing the number of keyframes, the offset of the index and the magic bytes again.
+ * A replay without trailer was not finished and has no index.
+ * </p>
+ */
+public final class ReplayFormat {
+    /**
+     * The bytes at the start and the end of every replay.
+     */
+    public static final byte[] MAGIC = {'T', 'R', 'P', 'L'};
+    /**
+     * The version of the format.
+     */
+    public static final byte VERSION = 3;
+    /**
+     * The number of bits of the event code.
+     */
+    public static final int CODE_BITS = 3;
+    /**
+     * The event code marking a keyframe.
+     */
+    public static final int KEYFRAME_CODE = (1 << CODE_BITS) - 2;
+    /**
+     * The event code marking the last tick of the game.
+     */
+    public static final int END_CODE = (1 << CODE_BITS) - 1;
+    /**
+     * The number of bytes of the header.
+     */
+    public static final int HEADER_BYTES = MAGIC.length + 1 + Long.BYTES;
+    /**
+     * The number of bytes of a keyframe index entry.
+     */
+    public static final int INDEX_ENTRY_BYTES = 2 * Long.BYTES;
+    /**
+     * The number of bytes of the trailer.
+     */
+    public static final int TRAILER_BYTES = Integer.BYTES + Long.BYTES + MAGIC.length;
+    /**
+     * The number of ticks between two keyframes.
+     */
+    public static final int KEYFRAME_INTERVAL_TICKS = 500;
+
+    static {
+        if (Input.values().length > KEYFRAME_CODE) {
+            throw new ExceptionInInitializerError("The inputs do not fit into the event code");
+        }
+    }
+
+    /**
+     * Prevents the constructor from being called.
+     *
+     * @throws UnsupportedOperationException Thrown, when the constructor gets called.
+     */
+    private ReplayFormat() {
+        throw new UnsupportedOperationException("Cannot instantiate class");
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.replay;
+
+import io.github.blockythedev.tetris.logic.GameEngine;
+import io.github.blockythedev.tetris.logic.Input;
+import io.github.blockythedev.tetris.utils.Utils;
+import java.nio.ByteBuffer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A player running a recorded game again on a game engine.
+ * <p>
+ * The engine is reset to the seed of the replay and every input is applied at the tick it was recorded at,
+ * so that the engine reaches exactly the same states as the recorded game.
+ * Seeking restores the nearest keyframe before the target tick and only simulates the remaining ticks.
+ * A replay of a resumed game starts at the state of its first keyframe.
+ * </p>
+ */
+public class ReplayPlayer {
+    private static final Input[] INPUTS = Input.values();
+    /**
+     * The event code marking the end of the events of an unfinished recording.
+     */
+    private static final int NO_EVENT = -1;
+
+    private final Replay replay;
+    private final GameEngine engine;
+    private ByteBuffer events;
+    private long eventTick;
+    private int eventCode;
+    private int keyframeOffset;
+
+    /**
+     * Constructs a {@link ReplayPlayer} and resets the engine to the start of the replay.
+     *
+     * @param replay The replay to play.
+     * @param engine The engine to play the replay on.
+     */
+    public ReplayPlayer(final @NotNull Replay replay, final @NotNull GameEngine engine) {
+        this.replay = replay;
+        this.engine = engine;
+        rewind();
+    }
+
+    /**
+     * Resets the engine and the events to the start of the replay.
+     */
+    private void rewind() {
+        engine.reset(replay.getSeed());
+        events = replay.events();
+        eventTick = 0;
+        readEvent();
+        if (eventCode == ReplayFormat.KEYFRAME_CODE) {
+            // the recording of a resumed game starts with the state it was resumed from
+            restoreKeyframe(keyframeOffset, eventTick);
+        }
+    }
+
+    /**
+     * Restores the state of a keyframe and continues with the events after it.
+     *
+     * @param offset The offset of the keyframe state within the events.
+     * @param tick The tick of the keyframe.
+     */
+    private void restoreKeyframe(final int offset, final long tick) {
+        events.position(offset);
+        final int length = (int) Utils.getVarLong(events);
+        engine.readState(events.slice(events.position(), length));
+        events.position(events.position() + length);
+        eventTick = tick;
+        readEvent();
+    }
+
+    /**
+     * Reads the next event.
+     */
+    private void readEvent() {
+        if (!events.hasRemaining()) {
+            eventCode = NO_EVENT;
+            return;
+        }
+        final long event = Utils.getVarLong(events);
+        eventTick += event >>> ReplayFormat.CODE_BITS;
+        eventCode = (int) (event & ReplayFormat.END_CODE);
+        if (eventCode == ReplayFormat.KEYFRAME_CODE) {
+            // keyframes are only read when seeking
+            keyframeOffset = events.position();
+            final int length = (int) Utils.getVarLong(events);
+            events.position(events.position() + length);
+        } else if (eventCode != ReplayFormat.END_CODE && eventCode >= INPUTS.length) {
+            throw new IllegalStateException("Unknown event code " + eventCode);
+        }
+    }
+
+    /**
+     * Applies the inputs of the current tick and advances the engine by one tick.
+     *
+     * @return Returns {@code true} if the engine was advanced, else {@code false}, if the replay is finished.
+     */
+    public boolean tick() {
+        final long tick = engine.getTickCount();
+        while (eventCode != NO_EVENT && eventCode != ReplayFormat.END_CODE && eventTick <= tick) {
+            if (eventCode != ReplayFormat.KEYFRAME_CODE) {
+                engine.applyInput(INPUTS[eventCode]);
+            }
+            readEvent();
+        }
+        if (isFinished()) {
+            return false;
+        }
+        engine.step();
+        return true;
+    }
+
+    /**
+     * Plays the replay until it is finished.
+     */
+    public void playToEnd() {
+        while (tick()) {
+            // advances as fast as possible
+        }
+    }
+
+    /**
+     * Moves the replay to a tick.
+     * <p>
+     * The state of the nearest keyframe before the tick is restored, if it is ahead of the current tick
+     * or the tick is in the past. Then the remaining ticks are simulated.
+     * </p>
+     *
+     * @param tick The target tick.
+     */
+    public void seek(final long tick) {
+        final int keyframe = replay.findKeyframe(tick);
+        final long keyframeTick = keyframe < 0 ? 0 : replay.getKeyframeTick(keyframe);
+        if (tick < engine.getTickCount() || keyframeTick > engine.getTickCount()) {
+            if (keyframe < 0) {
+                rewind();
+            } else {
+                restoreKeyframe(replay.getKeyframeOffset(keyframe), keyframeTick);
+            }
+        }
+
+        while (engine.getTickCount() < tick && tick()) {
+            // simulates the remaining ticks
+        }
+    }
+
+    /**
+     * Checks, if the replay is finished.
+     * <p>
+     * An unfinished recording is finished after its last input.
+     * A replay paused without any further input is finished too, as the engine cannot advance anymore.
+     * </p>
+     *
+     * @return Returns {@code true} if the replay is finished, else {@code false}.
+     */
+    public boolean isFinished() {
+        if (engine.isGameOver() || engine.isPaused()) {
+            return true;
+        }
+        return eventCode == ReplayFormat.END_CODE ? engine.getTickCount() >= eventTick : eventCode == NO_EVENT;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.replay;
+
+import io.github.blockythedev.tetris.logic.GameEngine;
+import io.github.blockythedev.tetris.logic.Input;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A recorder writing the inputs of a running game to a replay file.
+ * <p>
+ * Pauses are recorded as {@link Input#TOGGLE_PAUSE} whenever the paused state actually changes,
+ * no matter if the pause was toggled by a key or set by the user interface.
+ * Every {@link ReplayFormat#KEYFRAME_INTERVAL_TICKS} ticks, a keyframe with the state of the engine is recorded.
+ * The recording of a resumed game starts with a keyframe of the state it was resumed from.
+ * If writing fails, the failure is logged and the recording stops, but the game is not affected.
+ * </p>
+ * <p>
+ * Note: The methods must be called on the thread driving the engine.
+ * </p>
+ */
+public class ReplayRecorder {
+    private static final Logger logger = Logger.getLogger(ReplayRecorder.class.getName());
+
+    private ReplayWriter writer;
+    private boolean paused;
+    private long keyframeTick;
+
+    /**
+     * Constructs a {@link ReplayRecorder}.
+     *
+     * @param writer The writer of the replay file.
+     */
+    public ReplayRecorder(final @NotNull ReplayWriter writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Starts the recording of the game of an engine within a directory.
+     *
+     * @param directory The directory of the replay files.
+     * @param engine The engine at the start of the recording.
+     * @return Returns the recorder.
+     * @throws IOException Thrown, when the replay file could not be created.
+     */
+    public static @NotNull ReplayRecorder start(final @NotNull Path directory, final @NotNull GameEngine engine) throws IOException {
+        Files.createDirectories(directory);
+        final long seed = engine.getBoard().getPieceGenerator().getSeed();
+        final Path path = directory.resolve(System.currentTimeMillis() + "-" + Long.toHexString(seed) + ".replay");
+        final ReplayRecorder recorder = new ReplayRecorder(new ReplayWriter(path, seed));
+        recorder.paused = engine.isPaused();
+        if (engine.getTickCount() > 0) {
+            recorder.keyframeTick = engine.getTickCount();
+            recorder.writer.writeKeyframe(engine);
+        }
+        return recorder;
+    }
+
+    /**
+     * Records an input.
+     *
+     * @param tick The current tick of the engine.
+     * @param input The input.
+     */
+    public void recordInput(final long tick, final @NotNull Input input) {
+        // the pause is recorded by its state changes
+        if (input == Input.TOGGLE_PAUSE || writer == null) {
+            return;
+        }
+        try {
+            writer.writeInput(tick, input);
+        } catch (final IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Records a keyframe, if the keyframe interval has passed since the last one.
+     *
+     * @param engine The engine.
+     */
+    public void recordState(final @NotNull GameEngine engine) {
+        if (writer == null || engine.getTickCount() - keyframeTick < ReplayFormat.KEYFRAME_INTERVAL_TICKS) {
+            return;
+        }
+        keyframeTick = engine.getTickCount();
+        try {
+            writer.writeKeyframe(engine);
+        } catch (final IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Records a changed paused state.
+     *
+     * @param tick The current tick of the engine.
+     * @param paused The new paused state.
+     */
+    public void recordPaused(final long tick, final boolean paused) {
+        if (paused == this.paused || writer == null) {
+            return;
+        }
+        this.paused = paused;
+        try {
+            writer.writeInput(tick, Input.TOGGLE_PAUSE);
+        } catch (final IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Finishes the recording and closes the replay file.
+     *
+     * @param tick The last tick of the engine.
+     */
+    public void finish(final long tick) {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.writeEnd(tick);
+            writer.close();
+            writer = null;
+        } catch (final IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Stops the recording after a failed write.
+     *
+     * @param e The exception of the failed write.
+     */
+    private void fail(final @NotNull IOException e) {
+        logger.log(Level.WARNING, "Failed to write the replay, the recording is stopped", e);
+        try {
+            writer.close();
+        } catch (final IOException closeException) {
+            e.addSuppressed(closeException);
+        }
+        writer = null;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.replay;
+
+import io.github.blockythedev.tetris.logic.GameEngine;
+import io.github.blockythedev.tetris.logic.Input;
+import io.github.blockythedev.tetris.utils.Utils;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A writer for replays in the {@link ReplayFormat}.
+ * <p>
+ * The events are collected in a direct buffer, which is only written to the file channel, when it is full,
+ * so that recording a game usually costs no I/O at all until the writer is closed.
+ * The keyframe index is kept in memory and written with the trailer, when the writer is closed.
+ * </p>
+ * <p>
+ * Note: Instances of this class are not thread-safe.
+ * </p>
+ */
+public class ReplayWriter implements Closeable {
+    /**
+     * The size of the write buffer in bytes.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private long lastTick;
+    private long[] keyframeIndex;
+    private int keyframeCount;
+
+    /**
+     * Creates or truncates a replay file and writes its header.
+     *
+     * @param path The path of the replay file.
+     * @param seed The seed of the game.
+     * @throws IOException Thrown, when the file could not be opened.
+     */
+    public ReplayWriter(final @NotNull Path path, final long seed) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        buffer.put(ReplayFormat.MAGIC).put(ReplayFormat.VERSION).putLong(seed);
+        keyframeIndex = new long[32];
+    }
+
+    /**
+     * Writes an input.
+     *
+     * @param tick The tick of the engine, when the input was applied.
+     * @param input The input.
+     * @throws IOException Thrown, when the buffer could not be flushed.
+     */
+    public void writeInput(final long tick, final @NotNull Input input) throws IOException {
+        writeEvent(tick, input.ordinal());
+    }
+
+    /**
+     * Writes a keyframe with the current state of the engine.
+     *
+     * @param engine The engine.
+     * @throws IOException Thrown, when the buffer could not be flushed.
+     */
+    public void writeKeyframe(final @NotNull GameEngine engine) throws IOException {
+        final long tick = engine.getTickCount();
+        writeEvent(tick, ReplayFormat.KEYFRAME_CODE);
+        if (buffer.remaining() < Utils.MAX_VAR_LONG_BYTES + GameEngine.MAX_STATE_BYTES) {
+            flush();
+        }
+
+        if (keyframeCount * 2 == keyframeIndex.length) {
+            keyframeIndex = Arrays.copyOf(keyframeIndex, keyframeIndex.length * 2);
+        }
+        keyframeIndex[keyframeCount * 2] = tick;
+        keyframeIndex[keyframeCount * 2 + 1] = channel.position() + buffer.position();
+        keyframeCount++;
+
+        // the state is written behind a placeholder, so that its length can be put in front of it without copying
+        final int lengthPosition = buffer.position();
+        buffer.position(lengthPosition + 2);
+        final int statePosition = buffer.position();
+        engine.writeState(buffer);
+        final int length = buffer.position() - statePosition;
+        // the length always fits into two varint bytes, see GameEngine.MAX_STATE_BYTES
+        buffer.put(lengthPosition, (byte) ((length & 0x7F) | 0x80)).put(lengthPosition + 1, (byte) (length >>> 7));
+    }
+
+    /**
+     * Writes the last tick of the game.
+     *
+     * @param tick The tick of the engine, when the game ended.
+     * @throws IOException Thrown, when the buffer could not be flushed.
+     */
+    public void writeEnd(final long tick) throws IOException {
+        writeEvent(tick, ReplayFormat.END_CODE);
+    }
+
+    /**
+     * Writes an event relative to the previous one.
+     *
+     * @param tick The tick of the event.
+     * @param code The event code.
+     * @throws IOException Thrown, when the buffer could not be flushed.
+     */
+    private void writeEvent(final long tick, final int code) throws IOException {
+        if (tick < lastTick) {
+            throw new IllegalArgumentException("The tick " + tick + " is before the previous tick " + lastTick);
+        }
+        if (buffer.remaining() < Utils.MAX_VAR_LONG_BYTES) {
+            flush();
+        }
+        Utils.putVarLong(buffer, ((tick - lastTick) << ReplayFormat.CODE_BITS) | code);
+        lastTick = tick;
+    }
+
+    /**
+     * Writes the buffered events to the file.
+     *
+     * @throws IOException Thrown, when the events could not be written.
+     */
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Writes the keyframe index with the trailer and closes the file.
+     *
+     * @throws IOException Thrown, when the file could not be written.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            final long indexOffset = channel.position() + buffer.position();
+            for (int i = 0; i < keyframeCount * 2; i++) {
+                if (buffer.remaining() < Long.BYTES) {
+                    flush();
+                }
+                buffer.putLong(keyframeIndex[i]);
+            }
+            if (buffer.remaining() < ReplayFormat.TRAILER_BYTES) {
+                flush();
+            }
+            buffer.putInt(keyframeCount).putLong(indexOffset).put(ReplayFormat.MAGIC);
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
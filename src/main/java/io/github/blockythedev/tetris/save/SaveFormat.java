@@ -0,0 +1,92 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.save;
+
+import io.github.blockythedev.tetris.logic.GameEngine;
+import io.github.blockythedev.tetris.logic.Input;
+import java.nio.ByteBuffer;
+
+/**
+ * A final class containing the constants of the save files.
+ * <p>
+ * A save consists of a snapshot and a journal.
+ * The snapshot file contains the {@link #SNAPSHOT_MAGIC} bytes, the {@link #VERSION}, the id of the snapshot as 8-byte long,
+ * the length of the state as 4-byte int, the state written by {@link GameEngine#writeState(ByteBuffer)} and its CRC32 as 4-byte int.
+ * It is always replaced atomically, so that it is either the previous or the new snapshot after a crash.
+ * </p>
+ * <p>
+ * The journal file contains the {@link #JOURNAL_MAGIC} bytes, the {@link #VERSION} and the id of the snapshot it continues.
+ * It is followed by one unsigned varint per event, containing the ticks since the previous event
+ * shifted left by {@link #CODE_BITS} and the event code in the lower bits.
+ * The event code is the ordinal of the {@link Input} or {@link #TICK_CODE} for the progress of the game without any input.
+ * A journal of another snapshot belongs to an older save and is ignored.
+ * </p>
+ */
+public final class SaveFormat {
+    /**
+     * The name of the snapshot file.
+     */
+    public static final String SNAPSHOT_FILE = "snapshot.bin";
+    /**
+     * The name of the journal file.
+     */
+    public static final String JOURNAL_FILE = "journal.bin";
+    /**
+     * The bytes at the start of every snapshot.
+     */
+    public static final byte[] SNAPSHOT_MAGIC = {'T', 'S', 'A', 'V'};
+    /**
+     * The bytes at the start of every journal.
+     */
+    public static final byte[] JOURNAL_MAGIC = {'T', 'J', 'N', 'L'};
+    /**
+     * The version of the format.
+     */
+    public static final byte VERSION = 2;
+    /**
+     * The number of bits of the event code.
+     */
+    public static final int CODE_BITS = 3;
+    /**
+     * The event code marking the progress of the game.
+     */
+    public static final int TICK_CODE = (1 << CODE_BITS) - 1;
+    /**
+     * The number of ticks between two snapshots.
+     */
+    public static final int SNAPSHOT_INTERVAL_TICKS = 300;
+    /**
+     * The maximum time between writing an event and forcing it to the storage device.
+     */
+    public static final long FORCE_INTERVAL_MS = 250;
+
+    static {
+        if (Input.values().length > TICK_CODE) {
+            throw new ExceptionInInitializerError("The inputs do not fit into the event code");
+        }
+    }
+
+    /**
+     * Prevents the constructor from being called.
+     *
+     * @throws UnsupportedOperationException Thrown, when the constructor gets called.
+     */
+    private SaveFormat() {
+        throw new UnsupportedOperationException("Cannot instantiate class");
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.save;
+
+import io.github.blockythedev.tetris.logic.GameEngine;
+import io.github.blockythedev.tetris.logic.Input;
+import io.github.blockythedev.tetris.utils.Utils;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A final class loading a game saved by the {@link SaveWriter}.
+ * <p>
+ * The snapshot is restored and the inputs of the journal are applied at the ticks they were recorded at,
+ * so that the engine reaches the last state, which was forced to the storage device before the crash.
+ * A journal cut off within an event ends at the last complete event.
+ * </p>
+ */
+public final class SaveLoader {
+    private static final Input[] INPUTS = Input.values();
+
+    /**
+     * Prevents the constructor from being called.
+     *
+     * @throws UnsupportedOperationException Thrown, when the constructor gets called.
+     */
+    private SaveLoader() {
+        throw new UnsupportedOperationException("Cannot instantiate class");
+    }
+
+    /**
+     * Loads the saved game of a directory into an engine.
+     *
+     * @param directory The directory of the save files.
+     * @param engine The engine to restore the game on.
+     * @return Returns {@code true} if a saved game was restored, else {@code false}, if there is no save.
+     * @throws IOException Thrown, when the save could not be read or is corrupted.
+     *                     The state of the engine is undefined then.
+     */
+    public static boolean load(final @NotNull Path directory, final @NotNull GameEngine engine) throws IOException {
+        final Path snapshotPath = directory.resolve(SaveFormat.SNAPSHOT_FILE);
+        if (!Files.exists(snapshotPath)) {
+            return false;
+        }
+
+        final ByteBuffer snapshot = ByteBuffer.wrap(Files.readAllBytes(snapshotPath));
+        final long id;
+        try {
+            checkHeader(snapshot, SaveFormat.SNAPSHOT_MAGIC);
+            id = snapshot.getLong();
+            final int length = snapshot.getInt();
+            final ByteBuffer state = snapshot.slice(snapshot.position(), length);
+            final CRC32 crc = new CRC32();
+            crc.update(state.duplicate());
+            if ((int) crc.getValue() != snapshot.getInt(snapshot.position() + length)) {
+                throw new IOException("The snapshot is corrupted");
+            }
+            engine.readState(state);
+        } catch (final BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException("The snapshot is invalid", e);
+        }
+
+        final Path journalPath = directory.resolve(SaveFormat.JOURNAL_FILE);
+        if (Files.exists(journalPath)) {
+            replayJournal(ByteBuffer.wrap(Files.readAllBytes(journalPath)), id, engine);
+        }
+        return true;
+    }
+
+    /**
+     * Applies the events of a journal, if it continues the snapshot.
+     *
+     * @param journal The journal.
+     * @param id The id of the snapshot.
+     * @param engine The engine with the restored snapshot.
+     * @throws IOException Thrown, when the journal has an unknown format.
+     */
+    private static void replayJournal(final @NotNull ByteBuffer journal, final long id, final @NotNull GameEngine engine) throws IOException {
+        try {
+            checkHeader(journal, SaveFormat.JOURNAL_MAGIC);
+            if (journal.getLong() != id) {
+                // the journal of the previous snapshot, which was not replaced before the crash
+                return;
+            }
+        } catch (final BufferUnderflowException e) {
+            // the header of the new journal was not written before the crash
+            return;
+        }
+
+        long tick = engine.getTickCount();
+        while (journal.hasRemaining()) {
+            final long event;
+            try {
+                event = Utils.getVarLong(journal);
+            } catch (final BufferUnderflowException e) {
+                // the last event was not written completely before the crash
+                return;
+            }
+            tick += event >>> SaveFormat.CODE_BITS;
+            final int code = (int) (event & SaveFormat.TICK_CODE);
+            while (engine.getTickCount() < tick && !engine.isPaused() && !engine.isGameOver()) {
+                engine.step();
+            }
+            if (code != SaveFormat.TICK_CODE) {
+                if (code >= INPUTS.length) {
+                    throw new IOException("Unknown event code " + code);
+                }
+                engine.applyInput(INPUTS[code]);
+            }
+        }
+    }
+
+    /**
+     * Checks the magic bytes and the version at the start of a save file.
+     *
+     * @param buffer The content of the file.
+     * @param magic The expected magic bytes.
+     * @throws IOException Thrown, when the file has an unknown format.
+     */
+    private static void checkHeader(final @NotNull ByteBuffer buffer, final byte @NotNull [] magic) throws IOException {
+        for (final byte b : magic) {
+            if (buffer.get() != b) {
+                throw new IOException("The file is not a save file");
+            }
+        }
+        final byte version = buffer.get();
+        if (version != SaveFormat.VERSION) {
+            throw new IOException("Unsupported save version " + version);
+        }
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.save;
+
+import io.github.blockythedev.tetris.logic.GameEngine;
+import io.github.blockythedev.tetris.logic.Input;
+import io.github.blockythedev.tetris.utils.Utils;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A writer saving the running game in the {@link SaveFormat}, so that it can be resumed after a crash.
+ * <p>
+ * The thread driving the engine only captures the events and snapshots and passes them to a background thread,
+ * so that saving never blocks a tick. The background thread appends the events to the journal and forces them
+ * to the storage device in batches at most every {@link SaveFormat#FORCE_INTERVAL_MS} milliseconds.
+ * Every {@link SaveFormat#SNAPSHOT_INTERVAL_TICKS} ticks, a snapshot replaces the previous one and starts a new journal.
+ * If writing fails, the failure is logged and the events are dropped until the next snapshot.
+ * </p>
+ * <p>
+ * Note: Except of {@link #close()}, the methods must be called on the thread driving the engine.
+ * </p>
+ */
+public class SaveWriter implements Closeable {
+    private static final Logger logger = Logger.getLogger(SaveWriter.class.getName());
+    /**
+     * The size of the journal buffer in bytes.
+     */
+    private static final int BUFFER_SIZE = 4096;
+    /**
+     * The entry code of a snapshot.
+     */
+    private static final int SNAPSHOT_CODE = -1;
+    /**
+     * The entry discarding the save.
+     */
+    private static final Entry DISCARD = new Entry(-2, 0, null);
+    /**
+     * The entry stopping the background thread.
+     */
+    private static final Entry CLOSE = new Entry(-3, 0, null);
+
+    private final Path directory;
+    private final BlockingQueue<Entry> queue;
+    private final Thread thread;
+    private final ByteBuffer stateBuffer;
+    private boolean paused;
+    private long snapshotTick;
+    private long markedTick;
+
+    // the fields below are only accessed by the background thread
+    private final ByteBuffer buffer;
+    private FileChannel journal;
+    private long lastTick;
+    private boolean unforced;
+    private long lastForceNanos;
+
+    /**
+     * Constructs a {@link SaveWriter} without starting the background thread.
+     *
+     * @param directory The directory of the save files.
+     */
+    private SaveWriter(final @NotNull Path directory) {
+        this.directory = directory;
+        queue = new LinkedBlockingQueue<>();
+        thread = new Thread(this::run, "Tetris Save Writer");
+        thread.setDaemon(true);
+        stateBuffer = ByteBuffer.allocate(GameEngine.MAX_STATE_BYTES);
+        buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+
+    /**
+     * Opens a writer saving into a directory.
+     * <p>
+     * Note: Nothing is saved, until the first snapshot is written with {@link #writeSnapshot(GameEngine)}.
+     * </p>
+     *
+     * @param directory The directory of the save files.
+     * @return Returns the writer.
+     * @throws IOException Thrown, when the directory could not be created.
+     */
+    public static @NotNull SaveWriter open(final @NotNull Path directory) throws IOException {
+        Files.createDirectories(directory);
+        final SaveWriter writer = new SaveWriter(directory);
+        writer.thread.start();
+        return writer;
+    }
+
+    /**
+     * Records an input.
+     *
+     * @param tick The current tick of the engine.
+     * @param input The input.
+     */
+    public void recordInput(final long tick, final @NotNull Input input) {
+        // the pause is recorded by its state changes
+        if (input != Input.TOGGLE_PAUSE) {
+            queue.offer(new Entry(input.ordinal(), tick, null));
+        }
+    }
+
+    /**
+     * Records a changed paused state.
+     *
+     * @param tick The current tick of the engine.
+     * @param paused The new paused state.
+     */
+    public void recordPaused(final long tick, final boolean paused) {
+        if (paused != this.paused) {
+            this.paused = paused;
+            queue.offer(new Entry(Input.TOGGLE_PAUSE.ordinal(), tick, null));
+        }
+    }
+
+    /**
+     * Records the progress of the engine and writes a snapshot, if the snapshot interval has passed since the last one.
+     *
+     * @param engine The engine.
+     */
+    public void recordState(final @NotNull GameEngine engine) {
+        final long tick = engine.getTickCount();
+        if (tick - snapshotTick >= SaveFormat.SNAPSHOT_INTERVAL_TICKS) {
+            writeSnapshot(engine);
+        } else if (tick != markedTick) {
+            markedTick = tick;
+            queue.offer(new Entry(SaveFormat.TICK_CODE, tick, null));
+        }
+    }
+
+    /**
+     * Writes a snapshot of the current state of the engine, which replaces the previous save.
+     *
+     * @param engine The engine.
+     */
+    public void writeSnapshot(final @NotNull GameEngine engine) {
+        stateBuffer.clear();
+        engine.writeState(stateBuffer);
+        final byte[] state = new byte[stateBuffer.position()];
+        stateBuffer.get(0, state);
+        snapshotTick = engine.getTickCount();
+        markedTick = snapshotTick;
+        paused = engine.isPaused();
+        queue.offer(new Entry(SNAPSHOT_CODE, snapshotTick, state));
+    }
+
+    /**
+     * Deletes the save, for example when the game is over. Until the next snapshot, nothing is saved anymore.
+     */
+    public void discard() {
+        queue.offer(DISCARD);
+    }
+
+    /**
+     * Writes all pending entries and stops the background thread.
+     */
+    @Override
+    public void close() {
+        queue.offer(CLOSE);
+        try {
+            thread.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs the background thread, which writes the entries in batches.
+     */
+    private void run() {
+        lastForceNanos = System.nanoTime();
+        try {
+            while (true) {
+                Entry entry = queue.poll(SaveFormat.FORCE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                while (entry != null) {
+                    if (entry == CLOSE) {
+                        sync(true);
+                        closeJournal();
+                        return;
+                    }
+                    write(entry);
+                    entry = queue.poll();
+                }
+                sync(false);
+            }
+        } catch (final InterruptedException e) {
+            closeJournal();
+        }
+    }
+
+    /**
+     * Writes an entry.
+     *
+     * @param entry The entry.
+     */
+    private void write(final @NotNull Entry entry) {
+        try {
+            if (entry.state() != null) {
+                writeSnapshot(entry.tick(), entry.state());
+            } else if (entry == DISCARD) {
+                buffer.clear();
+                closeJournal();
+                Files.deleteIfExists(directory.resolve(SaveFormat.JOURNAL_FILE));
+                Files.deleteIfExists(directory.resolve(SaveFormat.SNAPSHOT_FILE));
+            } else if (journal != null) {
+                if (buffer.remaining() < Utils.MAX_VAR_LONG_BYTES) {
+                    flush();
+                }
+                Utils.putVarLong(buffer, ((entry.tick() - lastTick) << SaveFormat.CODE_BITS) | entry.code());
+                lastTick = entry.tick();
+            }
+        } catch (final IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Replaces the snapshot file atomically and starts a new journal.
+     *
+     * @param tick The tick of the snapshot.
+     * @param state The state of the engine.
+     * @throws IOException Thrown, when the files could not be written.
+     */
+    private void writeSnapshot(final long tick, final byte @NotNull [] state) throws IOException {
+        final long id = ThreadLocalRandom.current().nextLong();
+        final CRC32 crc = new CRC32();
+        crc.update(state);
+        final ByteBuffer snapshot = ByteBuffer.allocate(SaveFormat.SNAPSHOT_MAGIC.length + 1 + Long.BYTES + Integer.BYTES * 2 + state.length);
+        snapshot.put(SaveFormat.SNAPSHOT_MAGIC).put(SaveFormat.VERSION).putLong(id).putInt(state.length).put(state).putInt((int) crc.getValue()).flip();
+
+        final Path temporary = directory.resolve(SaveFormat.SNAPSHOT_FILE + ".tmp");
+        try (final FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (snapshot.hasRemaining()) {
+                channel.write(snapshot);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, directory.resolve(SaveFormat.SNAPSHOT_FILE), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        // the events of the previous journal are contained in the snapshot now
+        buffer.clear();
+        closeJournal();
+        journal = FileChannel.open(directory.resolve(SaveFormat.JOURNAL_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        buffer.put(SaveFormat.JOURNAL_MAGIC).put(SaveFormat.VERSION).putLong(id);
+        lastTick = tick;
+    }
+
+    /**
+     * Writes the buffered events to the journal and forces them to the storage device,
+     * if the force interval has passed since the last time.
+     *
+     * @param force Whether the events should be forced regardless of the force interval.
+     */
+    private void sync(final boolean force) {
+        if (journal == null) {
+            return;
+        }
+        try {
+            if (buffer.position() > 0) {
+                flush();
+                unforced = true;
+            }
+            final long now = System.nanoTime();
+            if (unforced && (force || now - lastForceNanos >= TimeUnit.MILLISECONDS.toNanos(SaveFormat.FORCE_INTERVAL_MS))) {
+                journal.force(false);
+                unforced = false;
+                lastForceNanos = now;
+            }
+        } catch (final IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Writes the buffered events to the journal.
+     *
+     * @throws IOException Thrown, when the events could not be written.
+     */
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            journal.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Closes the journal, if it is open.
+     */
+    private void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (final IOException e) {
+            logger.log(Level.WARNING, "Failed to close the save journal", e);
+        }
+        journal = null;
+        unforced = false;
+    }
+
+    /**
+     * Stops the saving until the next snapshot after a failed write.
+     *
+     * @param e The exception of the failed write.
+     */
+    private void fail(final @NotNull IOException e) {
+        logger.log(Level.WARNING, "Failed to write the save, the saving is stopped until the next snapshot", e);
+        buffer.clear();
+        closeJournal();
+    }
+
+    /**
+     * An entry passed to the background thread.
+     *
+     * @param code The event code or a negative code for the other entries.
+     * @param tick The tick of the engine.
+     * @param state The state of the engine for a snapshot or {@code null} for the other entries.
+     */
+    private record Entry(int code, long tick, byte @Nullable [] state) {
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.server;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A pool of direct buffers with a fixed size, so that the buffers are not allocated per message.
+ * <p>
+ * Note: Instances of this class are not thread-safe.
+ * </p>
+ */
+final class BufferPool {
+    private final int bufferSize;
+    private final int maxPooledBuffers;
+    private final ArrayDeque<ByteBuffer> buffers;
+
+    /**
+     * Constructs an empty {@link BufferPool}.
+     *
+     * @param bufferSize The size of every buffer in bytes.
+     * @param maxPooledBuffers The maximum number of released buffers kept for reuse.
+     */
+    BufferPool(final int bufferSize, final int maxPooledBuffers) {
+        this.bufferSize = bufferSize;
+        this.maxPooledBuffers = maxPooledBuffers;
+        buffers = new ArrayDeque<>(maxPooledBuffers);
+    }
+
+    /**
+     * Takes a cleared buffer from the pool or allocates a new one, if the pool is empty.
+     *
+     * @return Returns the buffer.
+     */
+    @NotNull ByteBuffer acquire() {
+        final ByteBuffer buffer = buffers.pollLast();
+        return buffer == null ? ByteBuffer.allocateDirect(bufferSize) : buffer;
+    }
+
+    /**
+     * Returns a buffer to the pool.
+     *
+     * @param buffer The buffer, which must not be used anymore.
+     */
+    void release(final @NotNull ByteBuffer buffer) {
+        if (buffers.size() < maxPooledBuffers) {
+            buffers.addLast(buffer.clear());
+        }
+    }
+}
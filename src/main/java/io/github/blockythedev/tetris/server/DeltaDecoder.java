@@ -0,0 +1,359 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.server;
+
+import io.github.blockythedev.tetris.constants.GameConstants;
+import io.github.blockythedev.tetris.shapes.PieceType;
+import io.github.blockythedev.tetris.utils.Rotation;
+import io.github.blockythedev.tetris.utils.Utils;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A decoder rebuilding the game of a {@link DeltaServer} session on the client side from the {@link DeltaFormat} messages.
+ * <p>
+ * Note: Instances of this class are not thread-safe.
+ * </p>
+ */
+public class DeltaDecoder {
+    private static final Rotation[] ROTATIONS = Rotation.values();
+
+    private final int[] occupancy;
+    private final byte[][] cells;
+    private long tick;
+    private int removedLines;
+    private boolean paused;
+    private boolean gameOver;
+    private PieceType currentShape;
+    private Rotation rotation;
+    private int posX;
+    private int posY;
+
+    /**
+     * Constructs a {@link DeltaDecoder} with an empty board.
+     */
+    public DeltaDecoder() {
+        occupancy = new int[GameConstants.LINES];
+        cells = new byte[GameConstants.LINES][GameConstants.COLUMNS];
+    }
+
+    /**
+     * Decodes and applies all complete messages of a buffer.
+     * <p>
+     * An incomplete message at the end of the buffer is not consumed, so that it can be decoded,
+     * when the rest has been received.
+     * </p>
+     *
+     * @param buffer The received bytes.
+     * @return Returns the number of decoded messages.
+     * @throws IllegalArgumentException Thrown, when a message is invalid.
+     */
+    public int decode(final @NotNull ByteBuffer buffer) {
+        int messages = 0;
+        while (buffer.hasRemaining()) {
+            final int start = buffer.position();
+            try {
+                decodeMessage(buffer);
+            } catch (final BufferUnderflowException e) {
+                buffer.position(start);
+                break;
+            }
+            messages++;
+        }
+        return messages;
+    }
+
+    /**
+     * Decodes and applies a message.
+     *
+     * @param buffer The buffer positioned at the start of the message.
+     * @throws BufferUnderflowException Thrown, when the message is incomplete.
+     */
+    private void decodeMessage(final @NotNull ByteBuffer buffer) {
+        final int header = buffer.get() & 0xFF;
+        final int argument = header >>> DeltaFormat.TYPE_BITS;
+        switch (header & DeltaFormat.TYPE_MASK) {
+            case DeltaFormat.TICK -> tick += argument != 0 ? argument : Utils.getVarLong(buffer);
+            case DeltaFormat.SPAWN -> {
+                final PieceType shape = getPieceType(buffer.get());
+                final int x = buffer.get();
+                final int y = buffer.get();
+                final Rotation r = getRotation(buffer.get());
+                currentShape = shape;
+                posX = x;
+                posY = y;
+                rotation = r;
+            }
+            case DeltaFormat.MOVE -> {
+                final int deltaX = (argument & DeltaFormat.MOVE_X) != 0 ? buffer.get() : 0;
+                final int deltaY = (argument & DeltaFormat.MOVE_Y) != 0 ? buffer.get() : 0;
+                final Rotation r = (argument & DeltaFormat.MOVE_ROTATION) != 0 ? getRotation(buffer.get()) : rotation;
+                posX += deltaX;
+                posY += deltaY;
+                rotation = r;
+            }
+            case DeltaFormat.LOCK -> {
+                final PieceType shape = getPieceType(buffer.get());
+                final Rotation r = getRotation(buffer.get());
+                final int x = buffer.get();
+                final int y = buffer.get();
+                lock(shape, r, x, y);
+            }
+            case DeltaFormat.CLEAR -> clearLines((int) Utils.getVarLong(buffer));
+            case DeltaFormat.OVER -> {
+                removedLines = Math.toIntExact(Utils.getVarLong(buffer));
+                gameOver = true;
+                currentShape = null;
+            }
+            case DeltaFormat.RESET -> {
+                if (argument == DeltaFormat.RESET_SNAPSHOT) {
+                    readSnapshot(buffer);
+                } else {
+                    reset();
+                }
+            }
+            case DeltaFormat.PAUSE -> paused = argument != 0;
+            default -> throw new IllegalStateException("Unreachable message type");
+        }
+    }
+
+    /**
+     * Inserts the cells of a shape into the board.
+     *
+     * @param shape The piece type of the shape.
+     * @param shapeRotation The rotation of the shape.
+     * @param shapePosX The X-position of the shape.
+     * @param shapePosY The Y-position of the shape.
+     */
+    private void lock(final @NotNull PieceType shape, final @NotNull Rotation shapeRotation, final int shapePosX, final int shapePosY) {
+        final int[] rowMasks = shape.getRowMasks(shapeRotation);
+        for (int row = 0; row < rowMasks.length; row++) {
+            occupancy[shapePosY + row] |= rowMasks[row] << shapePosX;
+            int columns = rowMasks[row];
+            while (columns != 0) {
+                cells[shapePosY + row][shapePosX + Integer.numberOfTrailingZeros(columns)] = shape.getId();
+                columns &= columns - 1;
+            }
+        }
+        currentShape = null;
+    }
+
+    /**
+     * Removes lines from top to bottom.
+     *
+     * @param lineMask The mask of the removed lines.
+     */
+    private void clearLines(final int lineMask) {
+        int lines = lineMask;
+        while (lines != 0) {
+            final int line = Integer.numberOfTrailingZeros(lines);
+            if (line >= occupancy.length) {
+                throw new IllegalArgumentException("Invalid line " + line);
+            }
+            final byte[] removedCells = cells[line];
+            System.arraycopy(occupancy, 0, occupancy, 1, line);
+            System.arraycopy(cells, 0, cells, 1, line);
+            occupancy[0] = 0;
+            Arrays.fill(removedCells, (byte) 0);
+            cells[0] = removedCells;
+            removedLines++;
+            lines &= lines - 1;
+        }
+    }
+
+    /**
+     * Reads a snapshot and replaces the state with it.
+     *
+     * @param buffer The buffer positioned behind the type byte of the snapshot.
+     * @throws BufferUnderflowException Thrown, when the snapshot is incomplete.
+     */
+    private void readSnapshot(final @NotNull ByteBuffer buffer) {
+        // the snapshot is read completely, before anything is replaced
+        final long snapshotTick = Utils.getVarLong(buffer);
+        final int snapshotRemovedLines = Math.toIntExact(Utils.getVarLong(buffer));
+        final int flags = buffer.get();
+        final int[] masks = new int[occupancy.length];
+        final byte[][] ids = new byte[occupancy.length][GameConstants.COLUMNS];
+        for (int line = 0; line < masks.length; line++) {
+            masks[line] = (int) Utils.getVarLong(buffer);
+            if ((masks[line] & ~GameConstants.FULL_LINE_MASK) != 0) {
+                throw new IllegalArgumentException("Invalid occupancy mask " + masks[line]);
+            }
+            int columns = masks[line];
+            while (columns != 0) {
+                ids[line][Integer.numberOfTrailingZeros(columns)] = getPieceType(buffer.get()).getId();
+                columns &= columns - 1;
+            }
+        }
+        final byte shapeId = buffer.get();
+        final PieceType shape = shapeId == 0 ? null : getPieceType(shapeId);
+        final int x = shape == null ? posX : buffer.get();
+        final int y = shape == null ? posY : buffer.get();
+        final Rotation r = shape == null ? rotation : getRotation(buffer.get());
+
+        System.arraycopy(masks, 0, occupancy, 0, masks.length);
+        for (int line = 0; line < ids.length; line++) {
+            System.arraycopy(ids[line], 0, cells[line], 0, GameConstants.COLUMNS);
+        }
+        tick = snapshotTick;
+        removedLines = snapshotRemovedLines;
+        paused = (flags & DeltaFormat.SNAPSHOT_PAUSED) != 0;
+        gameOver = (flags & DeltaFormat.SNAPSHOT_GAME_OVER) != 0;
+        currentShape = shape;
+        posX = x;
+        posY = y;
+        rotation = r;
+    }
+
+    /**
+     * Resets the decoder for a new game.
+     */
+    private void reset() {
+        Arrays.fill(occupancy, 0);
+        for (final byte[] line : cells) {
+            Arrays.fill(line, (byte) 0);
+        }
+        tick = 0;
+        removedLines = 0;
+        paused = false;
+        gameOver = false;
+        currentShape = null;
+    }
+
+    /**
+     * Gets the piece type of a received id.
+     *
+     * @param id The id.
+     * @return Returns the piece type.
+     * @throws IllegalArgumentException Thrown, when the id is invalid.
+     */
+    private static @NotNull PieceType getPieceType(final byte id) {
+        final PieceType shape = PieceType.fromId(id);
+        if (shape == null) {
+            throw new IllegalArgumentException("Invalid piece type id " + id);
+        }
+        return shape;
+    }
+
+    /**
+     * Gets the rotation of a received ordinal.
+     *
+     * @param ordinal The ordinal.
+     * @return Returns the rotation.
+     * @throws IllegalArgumentException Thrown, when the ordinal is invalid.
+     */
+    private static @NotNull Rotation getRotation(final byte ordinal) {
+        if (ordinal < 0 || ordinal >= ROTATIONS.length) {
+            throw new IllegalArgumentException("Invalid rotation " + ordinal);
+        }
+        return ROTATIONS[ordinal];
+    }
+
+    /**
+     * Gets the occupancy masks of the board.
+     *
+     * @return Returns one occupancy mask per line, where bit {@code n} is set, when column {@code n} contains a block.
+     */
+    public int @NotNull [] getOccupancy() {
+        return occupancy;
+    }
+
+    /**
+     * Gets the board.
+     *
+     * @return Returns the {@link PieceType} ids of the blocks.
+     */
+    public byte @NotNull [] @NotNull [] getCells() {
+        return cells;
+    }
+
+    /**
+     * Gets the tick of the game.
+     *
+     * @return Returns the tick of the last decoded change.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the number of removed lines.
+     *
+     * @return Returns the removed lines.
+     */
+    public int getRemovedLines() {
+        return removedLines;
+    }
+
+    /**
+     * Gets the paused state.
+     *
+     * @return Returns {@code true} if the game is paused, else {@code false}.
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Gets the game-over state.
+     *
+     * @return Returns {@code true} if the game is over, else {@code false}.
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Gets the current shape.
+     *
+     * @return Returns the piece type of the falling shape or {@code null}, if no shape is falling.
+     */
+    public @Nullable PieceType getCurrentShape() {
+        return currentShape;
+    }
+
+    /**
+     * Gets the rotation of the current shape.
+     *
+     * @return Returns the rotation.
+     */
+    public @Nullable Rotation getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the X-position of the current shape.
+     *
+     * @return Returns the X-position.
+     */
+    public int getPosX() {
+        return posX;
+    }
+
+    /**
+     * Gets the Y-position of the current shape.
+     *
+     * @return Returns the Y-position.
+     */
+    public int getPosY() {
+        return posY;
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.server;
+
+import io.github.blockythedev.tetris.logic.Board;
+import io.github.blockythedev.tetris.logic.GameEngine;
+import io.github.blockythedev.tetris.logic.GameListener;
+import io.github.blockythedev.tetris.shapes.PieceType;
+import io.github.blockythedev.tetris.utils.Rotation;
+import io.github.blockythedev.tetris.utils.Utils;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An encoder turning the changes of a game into {@link DeltaFormat} frames.
+ * <p>
+ * The changes are encoded at the points they happen in the board: the spawn, the lock and the removal of lines.
+ * Movements of the current shape are coalesced into one delta, when the frame is finished at the end of a tick.
+ * The snapshot of the game for new or lagging subscribers is encoded at most once per tick.
+ * </p>
+ * <p>
+ * Note: Instances of this class are not thread-safe.
+ * </p>
+ */
+final class DeltaEncoder implements GameListener {
+    private final GameEngine engine;
+    private final BufferPool pool;
+    private final Consumer<Frame> publisher;
+    private ByteBuffer buffer;
+    private Frame snapshot;
+    private long sentTick;
+    private PieceType sentShape;
+    private Rotation sentRotation;
+    private int sentPosX;
+    private int sentPosY;
+
+    /**
+     * Constructs a {@link DeltaEncoder}.
+     *
+     * @param engine The engine of the game.
+     * @param pool The pool of the frame buffers.
+     * @param publisher The consumer of the finished frames, which must retain a frame to keep it beyond the call.
+     */
+    DeltaEncoder(final @NotNull GameEngine engine, final @NotNull BufferPool pool, final @NotNull Consumer<Frame> publisher) {
+        this.engine = engine;
+        this.pool = pool;
+        this.publisher = publisher;
+    }
+
+    /**
+     * Finishes the frame of the current tick and publishes it, if anything has changed.
+     */
+    void finishFrame() {
+        writeMove();
+        if (buffer != null) {
+            final Frame frame = new Frame(buffer.flip());
+            buffer = null;
+            publisher.accept(frame);
+            frame.release(pool);
+        }
+    }
+
+    /**
+     * Gets the snapshot of the game at the end of the last finished frame.
+     * <p>
+     * Note: This must only be called directly after {@link #finishFrame()},
+     * as the snapshot must not contain changes of the unfinished frame.
+     * </p>
+     *
+     * @return Returns the snapshot frame, which must be retained by the caller to keep it.
+     */
+    @NotNull Frame getSnapshot() {
+        if (snapshot == null) {
+            final ByteBuffer snapshotBuffer = pool.acquire();
+            writeSnapshot(snapshotBuffer);
+            snapshot = new Frame(snapshotBuffer.flip());
+        }
+        return snapshot;
+    }
+
+    /**
+     * Starts a new game and encodes it.
+     *
+     * @param seed The seed of the new game.
+     */
+    void reset(final long seed) {
+        engine.reset(seed);
+        // the ticks of the new game start after the reset message
+        sentTick = 0;
+        sentShape = null;
+        beginMessage(DeltaFormat.RESET, 0);
+    }
+
+    /**
+     * Writes the snapshot message, which matches the state after the sent messages.
+     *
+     * @param target The buffer to write to.
+     */
+    private void writeSnapshot(final @NotNull ByteBuffer target) {
+        target.put((byte) (DeltaFormat.RESET | DeltaFormat.RESET_SNAPSHOT << DeltaFormat.TYPE_BITS));
+        Utils.putVarLong(target, sentTick);
+        Utils.putVarLong(target, engine.getStats().getRemovedLines());
+        target.put((byte) ((engine.isPaused() ? DeltaFormat.SNAPSHOT_PAUSED : 0) | (engine.isGameOver() ? DeltaFormat.SNAPSHOT_GAME_OVER : 0)));
+
+        final Board board = engine.getBoard();
+        final int[] occupancy = board.getOccupancy();
+        final byte[][] cells = board.getBoard();
+        for (int line = 0; line < occupancy.length; line++) {
+            Utils.putVarLong(target, occupancy[line]);
+            int columns = occupancy[line];
+            while (columns != 0) {
+                target.put(cells[line][Integer.numberOfTrailingZeros(columns)]);
+                columns &= columns - 1;
+            }
+        }
+
+        if (sentShape == null) {
+            target.put((byte) 0);
+        } else {
+            target.put(sentShape.getId()).put((byte) sentPosX).put((byte) sentPosY).put((byte) sentRotation.ordinal());
+        }
+    }
+
+    /**
+     * Writes the movement of the current shape since the last message about it.
+     */
+    private void writeMove() {
+        final Board board = engine.getBoard();
+        if (sentShape == null || board.getCurrentShape() != sentShape) {
+            return;
+        }
+        final int deltaX = board.getPosX() - sentPosX;
+        final int deltaY = board.getPosY() - sentPosY;
+        final int flags = (deltaX != 0 ? DeltaFormat.MOVE_X : 0) | (deltaY != 0 ? DeltaFormat.MOVE_Y : 0)
+                | (board.getRotation() != sentRotation ? DeltaFormat.MOVE_ROTATION : 0);
+        if (flags == 0) {
+            return;
+        }
+
+        final ByteBuffer target = beginMessage(DeltaFormat.MOVE, flags);
+        if (deltaX != 0) {
+            target.put((byte) deltaX);
+        }
+        if (deltaY != 0) {
+            target.put((byte) deltaY);
+        }
+        if (board.getRotation() != sentRotation) {
+            target.put((byte) board.getRotation().ordinal());
+        }
+        sentPosX = board.getPosX();
+        sentPosY = board.getPosY();
+        sentRotation = board.getRotation();
+    }
+
+    /**
+     * Writes the type byte of a message, preceded by a tick message, if the game has advanced since the last one.
+     *
+     * @param type The message type.
+     * @param argument The argument of the type byte.
+     * @return Returns the buffer to write the rest of the message to.
+     */
+    private @NotNull ByteBuffer beginMessage(final int type, final int argument) {
+        if (snapshot != null) {
+            // the state has changed, so the snapshot is outdated
+            snapshot.release(pool);
+            snapshot = null;
+        }
+        if (buffer != null && buffer.remaining() < 2 * DeltaFormat.MAX_MESSAGE_BYTES) {
+            // a full frame is published early, e.g. when a client floods the game with inputs
+            final Frame frame = new Frame(buffer.flip());
+            buffer = null;
+            publisher.accept(frame);
+            frame.release(pool);
+        }
+        if (buffer == null) {
+            buffer = pool.acquire();
+        }
+
+        final long ticks = engine.getTickCount() - sentTick;
+        if (ticks != 0) {
+            if (ticks <= DeltaFormat.MAX_ARGUMENT) {
+                buffer.put((byte) (DeltaFormat.TICK | ticks << DeltaFormat.TYPE_BITS));
+            } else {
+                buffer.put((byte) DeltaFormat.TICK);
+                Utils.putVarLong(buffer, ticks);
+            }
+            sentTick = engine.getTickCount();
+        }
+        return buffer.put((byte) (type | argument << DeltaFormat.TYPE_BITS));
+    }
+
+    /**
+     * Releases the buffers of the encoder, when the game is closed.
+     */
+    void close() {
+        if (buffer != null) {
+            pool.release(buffer);
+            buffer = null;
+        }
+        if (snapshot != null) {
+            snapshot.release(pool);
+            snapshot = null;
+        }
+    }
+
+    @Override
+    public void onShapeSpawned() {
+        final Board board = engine.getBoard();
+        sentShape = board.getCurrentShape();
+        sentRotation = board.getRotation();
+        sentPosX = board.getPosX();
+        sentPosY = board.getPosY();
+        beginMessage(DeltaFormat.SPAWN, 0).put(sentShape.getId()).put((byte) sentPosX).put((byte) sentPosY).put((byte) sentRotation.ordinal());
+    }
+
+    @Override
+    public void onShapeLocked(final @NotNull PieceType shape, final @NotNull Rotation rotation, final int posX, final int posY) {
+        beginMessage(DeltaFormat.LOCK, 0).put(shape.getId()).put((byte) rotation.ordinal()).put((byte) posX).put((byte) posY);
+        sentShape = null;
+    }
+
+    @Override
+    public void onLinesCleared(final int lineMask) {
+        Utils.putVarLong(beginMessage(DeltaFormat.CLEAR, 0), lineMask);
+    }
+
+    @Override
+    public void onPausedChanged(final boolean paused) {
+        beginMessage(DeltaFormat.PAUSE, paused ? 1 : 0);
+    }
+
+    @Override
+    public void onGameOver() {
+        Utils.putVarLong(beginMessage(DeltaFormat.OVER, 0), engine.getStats().getRemovedLines());
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.server;
+
+/**
+ * A final class containing the constants of the binary delta protocol of the {@link DeltaServer}.
+ * <p>
+ * The client sends one byte per command, which is the ordinal of an input, {@link #COMMAND_NEW}
+ * or {@link #COMMAND_WATCH} for becoming a spectator of the featured game instead of playing.
+ * </p>
+ * <p>
+ * The server only sends the changes of the game. Every message starts with a byte containing the message type
+ * in the lower {@link #TYPE_BITS} bits and an argument in the upper bits:
+ * </p>
+ * <ul>
+ *     <li>{@link #TICK}: The following messages happened the given number of ticks after the previous {@link #TICK}.
+ *     The argument contains the ticks or {@code 0}, if an unsigned varint with the ticks follows.</li>
+ *     <li>{@link #SPAWN}: A shape was spawned. The id of the piece type, the X-position, the Y-position
+ *     and the rotation ordinal follow as bytes.</li>
+ *     <li>{@link #MOVE}: The current shape was moved. The argument contains the flags {@link #MOVE_X}, {@link #MOVE_Y}
+ *     and {@link #MOVE_ROTATION}, followed by the signed X delta, the signed Y delta and the new rotation ordinal
+ *     as bytes for the set flags only.</li>
+ *     <li>{@link #LOCK}: The current shape was locked into the board. Its cells are given by the id of the piece type,
+ *     the rotation ordinal, the X-position and the Y-position, which follow as bytes.</li>
+ *     <li>{@link #CLEAR}: Full lines were removed. An unsigned varint with the mask of the removed lines follows,
+ *     which are removed from top to bottom.</li>
+ *     <li>{@link #OVER}: The game is over. An unsigned varint with the removed lines follows.</li>
+ *     <li>{@link #RESET}: A new game was started with an empty board. With the argument {@link #RESET_SNAPSHOT},
+ *     the complete state follows instead: an unsigned varint with the tick, an unsigned varint with the removed lines,
+ *     a byte with the flags {@link #SNAPSHOT_PAUSED} and {@link #SNAPSHOT_GAME_OVER}, an unsigned varint with
+ *     the occupancy mask of every line followed by the piece type ids of its blocks, and the id of the current shape
+ *     or {@code 0}, which is followed by the X-position, the Y-position and the rotation ordinal as bytes.</li>
+ *     <li>{@link #PAUSE}: The paused state changed to the argument, which is {@code 1} for paused or {@code 0}.</li>
+ * </ul>
+ * <p>
+ * The complete state is only sent as snapshot, when a client subscribes to a game
+ * or has fallen behind, so that the skipped messages are replaced.
+ * </p>
+ */
+public final class DeltaFormat {
+    /**
+     * The number of bits of the message type.
+     */
+    public static final int TYPE_BITS = 3;
+    /**
+     * The mask of the message type.
+     */
+    public static final int TYPE_MASK = (1 << TYPE_BITS) - 1;
+    /**
+     * The highest value of the argument of the message type byte.
+     */
+    public static final int MAX_ARGUMENT = 0xFF >>> TYPE_BITS;
+    /**
+     * The message type of the tick progress.
+     */
+    public static final int TICK = 0;
+    /**
+     * The message type of a spawned shape.
+     */
+    public static final int SPAWN = 1;
+    /**
+     * The message type of a moved shape.
+     */
+    public static final int MOVE = 2;
+    /**
+     * The message type of a locked shape.
+     */
+    public static final int LOCK = 3;
+    /**
+     * The message type of removed lines.
+     */
+    public static final int CLEAR = 4;
+    /**
+     * The message type of the game-over state.
+     */
+    public static final int OVER = 5;
+    /**
+     * The message type of a new game.
+     */
+    public static final int RESET = 6;
+    /**
+     * The message type of a changed paused state.
+     */
+    public static final int PAUSE = 7;
+    /**
+     * The flag of a {@link #MOVE} with a changed X-position.
+     */
+    public static final int MOVE_X = 1;
+    /**
+     * The flag of a {@link #MOVE} with a changed Y-position.
+     */
+    public static final int MOVE_Y = 2;
+    /**
+     * The flag of a {@link #MOVE} with a changed rotation.
+     */
+    public static final int MOVE_ROTATION = 4;
+    /**
+     * The argument of a {@link #RESET} followed by a snapshot.
+     */
+    public static final int RESET_SNAPSHOT = 1;
+    /**
+     * The snapshot flag of a paused game.
+     */
+    public static final int SNAPSHOT_PAUSED = 1;
+    /**
+     * The snapshot flag of a game, which is over.
+     */
+    public static final int SNAPSHOT_GAME_OVER = 2;
+    /**
+     * The command of the client starting a new game.
+     */
+    public static final int COMMAND_NEW = 6;
+    /**
+     * The command of the client becoming a spectator of the featured game.
+     */
+    public static final int COMMAND_WATCH = 7;
+    /**
+     * The maximum length of a message in bytes.
+     */
+    public static final int MAX_MESSAGE_BYTES = 11;
+
+    /**
+     * Prevents the constructor from being called.
+     *
+     * @throws UnsupportedOperationException Thrown, when the constructor gets called.
+     */
+    private DeltaFormat() {
+        throw new UnsupportedOperationException("Cannot instantiate class");
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.server;
+
+import io.github.blockythedev.tetris.logic.GameEngine;
+import io.github.blockythedev.tetris.logic.Input;
+import io.github.blockythedev.tetris.utils.Stats;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A game of the {@link DeltaServer}, which is played by one subscriber and watched by the others.
+ * <p>
+ * Every frame of the game is encoded once and passed to all subscribers.
+ * New subscribers and subscribers, which have fallen behind, receive the shared snapshot at the end of the next tick.
+ * </p>
+ * <p>
+ * Note: Instances of this class are not thread-safe.
+ * </p>
+ */
+final class DeltaGame {
+    private static final Input[] INPUTS = Input.values();
+
+    private final BufferPool pool;
+    private final GameEngine engine;
+    private final DeltaEncoder encoder;
+    private final List<Subscriber> subscribers;
+
+    /**
+     * Constructs a {@link DeltaGame} with a new game.
+     *
+     * @param pool The pool of the frame buffers.
+     */
+    DeltaGame(final @NotNull BufferPool pool) {
+        this.pool = pool;
+        engine = new GameEngine(new Stats(), ThreadLocalRandom.current().nextLong());
+        encoder = new DeltaEncoder(engine, pool, this::publish);
+        engine.setListener(encoder);
+        subscribers = new ArrayList<>();
+    }
+
+    /**
+     * Advances the game by one tick and passes the changes to the subscribers.
+     */
+    void tick() {
+        engine.step();
+        encoder.finishFrame();
+        for (final Subscriber subscriber : subscribers) {
+            if (subscriber.isSnapshotRequested()) {
+                subscriber.sendSnapshot(encoder.getSnapshot());
+            }
+        }
+    }
+
+    /**
+     * Applies a command of the player.
+     * <p>
+     * The changes are passed to the subscribers with the next tick.
+     * </p>
+     *
+     * @param command The ordinal of an input or {@link DeltaFormat#COMMAND_NEW}.
+     */
+    void applyCommand(final int command) {
+        if (command == DeltaFormat.COMMAND_NEW) {
+            encoder.reset(ThreadLocalRandom.current().nextLong());
+        } else if (command >= 0 && command < INPUTS.length) {
+            engine.applyInput(INPUTS[command]);
+        }
+    }
+
+    /**
+     * Passes a frame to all subscribers.
+     *
+     * @param frame The frame.
+     */
+    private void publish(final @NotNull Frame frame) {
+        for (final Subscriber subscriber : subscribers) {
+            subscriber.enqueue(frame);
+        }
+    }
+
+    /**
+     * Adds a subscriber, which receives a snapshot with the next tick.
+     *
+     * @param subscriber The subscriber.
+     */
+    void subscribe(final @NotNull Subscriber subscriber) {
+        subscribers.add(subscriber);
+        subscriber.requestSnapshot();
+    }
+
+    /**
+     * Removes a subscriber.
+     *
+     * @param subscriber The subscriber.
+     */
+    void unsubscribe(final @NotNull Subscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    /**
+     * Gets the subscribers.
+     *
+     * @return Returns the subscribers including the player.
+     */
+    @NotNull List<Subscriber> getSubscribers() {
+        return subscribers;
+    }
+
+    /**
+     * Gets the game engine.
+     *
+     * @return Returns the engine.
+     */
+    @NotNull GameEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Releases the buffers of the game, when it is closed.
+     */
+    void close() {
+        encoder.close();
+        subscribers.clear();
+    }
+}
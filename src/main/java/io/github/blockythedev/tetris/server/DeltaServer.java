@@ -0,0 +1,409 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A non-blocking server hosting one headless game per client connection with the {@link DeltaFormat}.
+ * <p>
+ * All connections and games are driven by a single thread with a {@link Selector}.
+ * Every tick, the games of all sessions are advanced and their changes are written.
+ * Instead of full boards, only the changes are sent, so that the bandwidth per session stays at a few bytes per tick.
+ * The server only accepts local connections.
+ * </p>
+ * <p>
+ * Every connection starts playing its own game. After sending {@link DeltaFormat#COMMAND_WATCH},
+ * it becomes a spectator of the featured game, which is the longest running game.
+ * The changes of a game are encoded once per tick into a shared frame, which is written to the player and all spectators,
+ * so that a featured game scales to thousands of spectators. Slow spectators are coalesced or dropped, see {@link Subscriber}.
+ * </p>
+ */
+public class DeltaServer implements Closeable, Runnable {
+    private static final Logger logger = Logger.getLogger(DeltaServer.class.getName());
+    /**
+     * The size of the pooled frame buffers in bytes, which fits a snapshot.
+     */
+    private static final int BUFFER_SIZE = 512;
+    /**
+     * The maximum number of released buffers kept in the pool.
+     */
+    private static final int MAX_POOLED_BUFFERS = 4096;
+
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final long tickIntervalNanos;
+    private final BufferPool bufferPool;
+    private final ByteBuffer readBuffer;
+    private final List<Subscriber> subscribers;
+    private final List<DeltaGame> games;
+    private final List<Subscriber> spectators;
+    private DeltaGame featuredGame;
+    private volatile long bytesSent;
+    private volatile long coalescedCount;
+    private volatile int sessionCount;
+    private volatile int spectatorCount;
+    private volatile boolean closed;
+    private Thread thread;
+
+    /**
+     * Constructs a {@link DeltaServer} listening on the loopback address.
+     *
+     * @param port The port or {@code 0} for any free port.
+     * @param tickIntervalNanos The interval between two ticks of every game.
+     * @throws IOException Thrown, when the port could not be bound.
+     */
+    public DeltaServer(final int port, final long tickIntervalNanos) throws IOException {
+        if (tickIntervalNanos <= 0) {
+            throw new IllegalArgumentException("The tick interval must be positive");
+        }
+        this.tickIntervalNanos = tickIntervalNanos;
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        bufferPool = new BufferPool(BUFFER_SIZE, MAX_POOLED_BUFFERS);
+        readBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        subscribers = new ArrayList<>();
+        games = new ArrayList<>();
+        spectators = new ArrayList<>();
+    }
+
+    /**
+     * Starts the thread of the server.
+     */
+    public void start() {
+        thread = new Thread(this, "Tetris Delta Server");
+        thread.start();
+    }
+
+    /**
+     * Runs the server on the current thread, until it is closed.
+     */
+    @Override
+    public void run() {
+        long nextTick = System.nanoTime() + tickIntervalNanos;
+        try {
+            while (!closed) {
+                final long delayMs = TimeUnit.NANOSECONDS.toMillis(nextTick - System.nanoTime());
+                if (delayMs > 0) {
+                    selector.select(this::handle, delayMs);
+                } else {
+                    selector.selectNow(this::handle);
+                }
+
+                final long now = System.nanoTime();
+                if (now - nextTick >= 0) {
+                    tickGames();
+                    // ticks are skipped, when the server has fallen behind, instead of running them all at once
+                    nextTick = Math.max(nextTick + tickIntervalNanos, now);
+                }
+            }
+        } catch (final IOException e) {
+            logger.log(Level.SEVERE, "The server failed", e);
+        } finally {
+            while (!subscribers.isEmpty()) {
+                closeSubscriber(subscribers.get(subscribers.size() - 1));
+            }
+            try {
+                selector.close();
+                serverChannel.close();
+            } catch (final IOException e) {
+                logger.log(Level.WARNING, "Failed to close the server", e);
+            }
+        }
+    }
+
+    /**
+     * Handles a selected key.
+     *
+     * @param key The key ready for an operation.
+     */
+    private void handle(final @NotNull SelectionKey key) {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            accept();
+            return;
+        }
+
+        final Subscriber subscriber = (Subscriber) key.attachment();
+        try {
+            if (key.isReadable()) {
+                readBuffer.clear();
+                if (subscriber.getChannel().read(readBuffer) < 0) {
+                    closeSubscriber(subscriber);
+                    return;
+                }
+                handleCommands(subscriber, readBuffer.flip());
+            }
+            if (key.isValid() && key.isWritable()) {
+                subscriber.flush();
+            }
+        } catch (final IOException e) {
+            logger.log(Level.FINE, "The connection of a subscriber failed", e);
+            closeSubscriber(subscriber);
+        }
+    }
+
+    /**
+     * Applies the commands read from a client.
+     * <p>
+     * The changes are sent with the next tick.
+     * </p>
+     *
+     * @param subscriber The subscriber of the client.
+     * @param commands The buffer containing the commands.
+     */
+    private void handleCommands(final @NotNull Subscriber subscriber, final @NotNull ByteBuffer commands) {
+        while (commands.hasRemaining()) {
+            final DeltaGame game = subscriber.getGame();
+            if (game == null) {
+                // the commands of spectators are ignored
+                return;
+            }
+            final int command = commands.get();
+            if (command == DeltaFormat.COMMAND_WATCH) {
+                removeGame(game);
+                spectators.add(subscriber);
+                spectatorCount = spectators.size();
+                if (featuredGame != null) {
+                    featuredGame.subscribe(subscriber);
+                }
+            } else {
+                game.applyCommand(command);
+            }
+        }
+    }
+
+    /**
+     * Accepts the pending connections.
+     */
+    private void accept() {
+        try {
+            SocketChannel channel;
+            while ((channel = serverChannel.accept()) != null) {
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                final SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+                final Subscriber subscriber = new Subscriber(this, channel, key);
+                key.attach(subscriber);
+                subscribers.add(subscriber);
+
+                final DeltaGame game = new DeltaGame(bufferPool);
+                subscriber.setGame(game);
+                game.subscribe(subscriber);
+                games.add(game);
+                sessionCount = games.size();
+                if (featuredGame == null) {
+                    setFeaturedGame(game);
+                }
+            }
+        } catch (final IOException e) {
+            logger.log(Level.WARNING, "Failed to accept a connection", e);
+        }
+    }
+
+    /**
+     * Advances all games by one tick and writes the frames to the subscribers, which are not busy.
+     */
+    private void tickGames() {
+        for (final DeltaGame game : games) {
+            game.tick();
+        }
+
+        final long now = System.nanoTime();
+        // backwards, so that closed subscribers can be removed while iterating
+        for (int i = subscribers.size() - 1; i >= 0; i--) {
+            final Subscriber subscriber = subscribers.get(i);
+            try {
+                if (!subscriber.isWriting()) {
+                    subscriber.flush();
+                } else if (subscriber.isStalled(now)) {
+                    throw new IOException("The subscriber has stalled");
+                }
+            } catch (final IOException e) {
+                logger.log(Level.FINE, "The connection of a subscriber failed", e);
+                closeSubscriber(subscriber);
+            }
+        }
+    }
+
+    /**
+     * Sets the featured game and moves all spectators to it.
+     *
+     * @param game The featured game or {@code null}, if there is no game.
+     */
+    private void setFeaturedGame(final @Nullable DeltaGame game) {
+        featuredGame = game;
+        if (game != null) {
+            for (final Subscriber spectator : spectators) {
+                game.subscribe(spectator);
+            }
+        }
+    }
+
+    /**
+     * Removes a game, when its player has left.
+     *
+     * @param game The game.
+     */
+    private void removeGame(final @NotNull DeltaGame game) {
+        for (final Subscriber subscriber : game.getSubscribers()) {
+            subscriber.setGame(null);
+        }
+        games.remove(game);
+        sessionCount = games.size();
+        game.close();
+        if (game == featuredGame) {
+            setFeaturedGame(games.isEmpty() ? null : games.get(0));
+        }
+    }
+
+    /**
+     * Closes the connection of a subscriber and removes it.
+     *
+     * @param subscriber The subscriber.
+     */
+    private void closeSubscriber(final @NotNull Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        if (spectators.remove(subscriber)) {
+            spectatorCount = spectators.size();
+            if (featuredGame != null) {
+                featuredGame.unsubscribe(subscriber);
+            }
+        }
+        final DeltaGame game = subscriber.getGame();
+        if (game != null) {
+            removeGame(game);
+        }
+        subscriber.close();
+        try {
+            subscriber.getChannel().close();
+        } catch (final IOException e) {
+            logger.log(Level.FINE, "Failed to close the connection of a subscriber", e);
+        }
+    }
+
+    /**
+     * Counts a coalesced subscriber.
+     */
+    void countCoalesced() {
+        // only the thread of the server writes the counter
+        coalescedCount++;
+    }
+
+    /**
+     * Counts written bytes.
+     *
+     * @param bytes The number of written bytes.
+     */
+    void addBytesSent(final long bytes) {
+        // only the thread of the server writes the counter
+        bytesSent += bytes;
+    }
+
+    /**
+     * Gets the pool of the write buffers.
+     *
+     * @return Returns the buffer pool.
+     */
+    @NotNull BufferPool getBufferPool() {
+        return bufferPool;
+    }
+
+    /**
+     * Gets the number of bytes sent to all clients.
+     *
+     * @return Returns the sent bytes.
+     */
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    /**
+     * Gets the number of played games.
+     *
+     * @return Returns the session count.
+     */
+    public int getSessionCount() {
+        return sessionCount;
+    }
+
+    /**
+     * Gets the number of spectators.
+     *
+     * @return Returns the spectator count.
+     */
+    public int getSpectatorCount() {
+        return spectatorCount;
+    }
+
+    /**
+     * Gets the number of times, a subscriber has fallen behind and skipped frames.
+     *
+     * @return Returns the coalesced count.
+     */
+    public long getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    /**
+     * Gets the port of the server.
+     *
+     * @return Returns the local port.
+     * @throws IOException Thrown, when the server is closed.
+     */
+    public int getPort() throws IOException {
+        return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+    }
+
+    /**
+     * Stops the server and closes all connections.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        selector.wakeup();
+        if (thread != null && thread != Thread.currentThread()) {
+            try {
+                thread.join();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.server;
+
+import java.nio.ByteBuffer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An encoded frame of {@link DeltaFormat} messages, which is shared by all subscribers of a game.
+ * <p>
+ * The frame is encoded once and every subscriber writes it through its own read-only view,
+ * so that the cost of a frame does not depend on the number of subscribers.
+ * The pooled buffer is returned to the pool, when the last reference is released.
+ * </p>
+ * <p>
+ * Note: Instances of this class are not thread-safe.
+ * </p>
+ */
+final class Frame {
+    private final ByteBuffer buffer;
+    private int references;
+
+    /**
+     * Constructs a {@link Frame} with one reference held by the caller.
+     *
+     * @param buffer The pooled buffer containing the encoded messages between its position and limit.
+     */
+    Frame(final @NotNull ByteBuffer buffer) {
+        this.buffer = buffer;
+        references = 1;
+    }
+
+    /**
+     * Creates a read-only view of the frame with its own position.
+     *
+     * @return Returns the view.
+     */
+    @NotNull ByteBuffer view() {
+        return buffer.asReadOnlyBuffer();
+    }
+
+    /**
+     * Adds a reference.
+     */
+    void retain() {
+        references++;
+    }
+
+    /**
+     * Releases a reference and returns the buffer to the pool, if it was the last one.
+     *
+     * @param pool The pool of the buffer.
+     */
+    void release(final @NotNull BufferPool pool) {
+        if (--references == 0) {
+            pool.release(buffer);
+        }
+    }
+}
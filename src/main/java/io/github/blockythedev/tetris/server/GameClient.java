@@ -0,0 +1,105 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.server;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A client of the {@link GameServer}, sending one command at a time.
+ * <p>
+ * Note: Instances of this class are not thread-safe.
+ * </p>
+ */
+public class GameClient implements Closeable {
+    private final Socket socket;
+    private final BufferedReader reader;
+    private final Writer writer;
+    private boolean gameOver;
+
+    /**
+     * Connects a {@link GameClient} to a server on the loopback address.
+     *
+     * @param port The port of the server.
+     * @throws IOException Thrown, when the connection could not be established.
+     */
+    public GameClient(final int port) throws IOException {
+        socket = new Socket(InetAddress.getLoopbackAddress(), port);
+        socket.setTcpNoDelay(true);
+        reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+        writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Sends a command and waits for its reply.
+     * <p>
+     * Game-over notifications received before the reply are remembered, see {@link #takeGameOver()}.
+     * </p>
+     *
+     * @param command The command without line break.
+     * @return Returns the reply line.
+     * @throws IOException Thrown, when the connection failed or was closed by the server.
+     */
+    public @NotNull String send(final @NotNull String command) throws IOException {
+        writer.write(command);
+        writer.write('\n');
+        writer.flush();
+        while (true) {
+            final String line = reader.readLine();
+            if (line == null) {
+                throw new EOFException("The server closed the connection");
+            }
+            if (line.startsWith("OVER ")) {
+                gameOver = true;
+            } else {
+                return line;
+            }
+        }
+    }
+
+    /**
+     * Checks, if the game has ended since the last call, and resets the flag.
+     *
+     * @return Returns {@code true} if a game-over notification has been received, else {@code false}.
+     */
+    public boolean takeGameOver() {
+        final boolean result = gameOver;
+        gameOver = false;
+        return result;
+    }
+
+    /**
+     * Closes the connection.
+     *
+     * @throws IOException Thrown, when the socket could not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.server;
+
+import io.github.blockythedev.tetris.utils.LatencyHistogram;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A server hosting one headless game per client connection.
+ * <p>
+ * Every connection runs on its own virtual thread, and the game of every session is advanced by another virtual thread,
+ * so that thousands of sessions only need a few carrier threads. The server only accepts local connections.
+ * </p>
+ * <p>
+ * The protocol is line-based ASCII. The client sends one command per line and receives one reply line per command:
+ * </p>
+ * <ul>
+ *     <li>{@code LEFT}, {@code RIGHT}, {@code CW}, {@code CCW}, {@code DROP} and {@code PAUSE} apply an input
+ *     and are answered with {@code OK <tick>}.</li>
+ *     <li>{@code STATE} is answered with {@code STATE <tick> <lines> <paused> <gameOver> <shapeId> <x> <y> <rotation> <masks>},
+ *     where the masks are the hexadecimal occupancy masks of all lines separated by commas.</li>
+ *     <li>{@code NEW} starts a new game and is answered with {@code OK 0}.</li>
+ *     <li>{@code QUIT} is answered with {@code BYE} and closes the connection.</li>
+ *     <li>Unknown commands are answered with {@code ERROR <message>}.</li>
+ * </ul>
+ * <p>
+ * When the game is over, the server sends {@code OVER <tick> <lines>} without a preceding command.
+ * </p>
+ */
+public class GameServer implements Closeable {
+    private static final Logger logger = Logger.getLogger(GameServer.class.getName());
+    /**
+     * The maximum number of pending connections.
+     */
+    private static final int BACKLOG = 1024;
+
+    private final ServerSocket serverSocket;
+    private final long tickIntervalNanos;
+    private final ExecutorService executor;
+    private final Set<GameSession> sessions;
+    private final LatencyHistogram tickLatency;
+
+    /**
+     * Constructs a {@link GameServer} listening on the loopback address.
+     *
+     * @param port The port or {@code 0} for any free port.
+     * @param tickIntervalNanos The interval between two ticks of every game.
+     * @throws IOException Thrown, when the port could not be bound.
+     */
+    public GameServer(final int port, final long tickIntervalNanos) throws IOException {
+        if (tickIntervalNanos <= 0) {
+            throw new IllegalArgumentException("The tick interval must be positive");
+        }
+        serverSocket = new ServerSocket(port, BACKLOG, InetAddress.getLoopbackAddress());
+        this.tickIntervalNanos = tickIntervalNanos;
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        sessions = ConcurrentHashMap.newKeySet();
+        tickLatency = new LatencyHistogram();
+    }
+
+    /**
+     * Starts accepting connections.
+     */
+    public void start() {
+        Thread.ofVirtual().name("Tetris Server Acceptor").start(this::accept);
+    }
+
+    /**
+     * Accepts connections, until the server is closed.
+     */
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                final Socket socket = serverSocket.accept();
+                final GameSession session = new GameSession(socket, tickIntervalNanos, tickLatency);
+                sessions.add(session);
+                executor.execute(() -> {
+                    try {
+                        session.run();
+                    } finally {
+                        sessions.remove(session);
+                    }
+                });
+            } catch (final IOException e) {
+                if (!serverSocket.isClosed()) {
+                    logger.log(Level.WARNING, "Failed to accept a connection", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Closes all sessions and waits for them to finish.
+     *
+     * @throws IOException Thrown, when the server socket could not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        sessions.forEach(GameSession::close);
+        executor.close();
+    }
+
+    /**
+     * Gets the port of the server.
+     *
+     * @return Returns the local port.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Gets the number of connected sessions.
+     *
+     * @return Returns the session count.
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Gets the latencies of the ticks of all sessions.
+     * <p>
+     * The latency of a tick is the time from its scheduled start until the game has been advanced.
+     * </p>
+     *
+     * @return Returns the histogram of the tick latencies.
+     */
+    public @NotNull LatencyHistogram getTickLatency() {
+        return tickLatency;
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.server;
+
+import io.github.blockythedev.tetris.constants.GameConstants;
+import io.github.blockythedev.tetris.logic.Board;
+import io.github.blockythedev.tetris.logic.GameEngine;
+import io.github.blockythedev.tetris.logic.GameListener;
+import io.github.blockythedev.tetris.logic.Input;
+import io.github.blockythedev.tetris.shapes.PieceType;
+import io.github.blockythedev.tetris.utils.LatencyHistogram;
+import io.github.blockythedev.tetris.utils.Stats;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A session of the {@link GameServer}, running one game for one client connection.
+ * <p>
+ * The commands are read on the thread running the session, while the game is advanced by a virtual ticker thread.
+ * Both threads access the engine and the connection only while holding the lock of the session.
+ * A {@link ReentrantLock} is used instead of {@code synchronized}, so that a waiting virtual thread does not block its carrier.
+ * </p>
+ */
+final class GameSession implements Runnable, GameListener {
+    private static final Logger logger = Logger.getLogger(GameSession.class.getName());
+
+    private final Socket socket;
+    private final long tickIntervalNanos;
+    private final LatencyHistogram tickLatency;
+    private final ReentrantLock lock;
+    private final GameEngine engine;
+    private Writer writer;
+    private boolean gameOverPending;
+    private volatile boolean closed;
+
+    /**
+     * Constructs a {@link GameSession} with a new game.
+     *
+     * @param socket The socket of the client connection.
+     * @param tickIntervalNanos The interval between two ticks.
+     * @param tickLatency The histogram to record the tick latencies to.
+     */
+    GameSession(final @NotNull Socket socket, final long tickIntervalNanos, final @NotNull LatencyHistogram tickLatency) {
+        this.socket = socket;
+        this.tickIntervalNanos = tickIntervalNanos;
+        this.tickLatency = tickLatency;
+        lock = new ReentrantLock();
+        engine = new GameEngine(new Stats(), ThreadLocalRandom.current().nextLong());
+        engine.setListener(this);
+    }
+
+    /**
+     * Runs the session, until the client quits or the connection is closed.
+     */
+    @Override
+    public void run() {
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            final BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII));
+            final Thread ticker = Thread.ofVirtual().name("Tetris Session Ticker").start(this::tick);
+            try {
+                String line;
+                while ((line = reader.readLine()) != null && handle(line.trim())) {
+                    // handles the next command
+                }
+            } finally {
+                closed = true;
+                ticker.interrupt();
+            }
+        } catch (final IOException e) {
+            if (!closed) {
+                logger.log(Level.FINE, "The connection of a session failed", e);
+            }
+        }
+    }
+
+    /**
+     * Advances the game in the tick interval, until the session is closed.
+     */
+    private void tick() {
+        long deadline = System.nanoTime();
+        while (!closed) {
+            deadline += tickIntervalNanos;
+            long delay;
+            while ((delay = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(delay);
+                if (Thread.interrupted()) {
+                    return;
+                }
+            }
+
+            lock.lock();
+            try {
+                engine.step();
+                if (gameOverPending) {
+                    sendGameOver();
+                    writer.flush();
+                }
+            } catch (final IOException e) {
+                close();
+                return;
+            } finally {
+                lock.unlock();
+            }
+            tickLatency.record(System.nanoTime() - deadline);
+        }
+    }
+
+    /**
+     * Handles a command and sends the reply.
+     *
+     * @param command The command line.
+     * @return Returns {@code true} if the session continues, else {@code false}, if the client quits.
+     * @throws IOException Thrown, when the reply could not be sent.
+     */
+    private boolean handle(final @NotNull String command) throws IOException {
+        lock.lock();
+        try {
+            final boolean running = switch (command) {
+                case "LEFT" -> applyInput(Input.MOVE_LEFT);
+                case "RIGHT" -> applyInput(Input.MOVE_RIGHT);
+                case "CW" -> applyInput(Input.ROTATE_CLOCKWISE);
+                case "CCW" -> applyInput(Input.ROTATE_ANTI_CLOCKWISE);
+                case "DROP" -> applyInput(Input.DROP);
+                case "PAUSE" -> applyInput(Input.TOGGLE_PAUSE);
+                case "STATE" -> {
+                    writer.write(formatState());
+                    yield true;
+                }
+                case "NEW" -> {
+                    engine.reset(ThreadLocalRandom.current().nextLong());
+                    gameOverPending = false;
+                    writer.write("OK 0\n");
+                    yield true;
+                }
+                case "QUIT" -> {
+                    writer.write("BYE\n");
+                    yield false;
+                }
+                default -> {
+                    writer.write("ERROR Unknown command " + command + "\n");
+                    yield true;
+                }
+            };
+            sendGameOver();
+            writer.flush();
+            return running;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Applies an input and writes the reply.
+     *
+     * @param input The input.
+     * @return Returns always {@code true}, as the session continues.
+     * @throws IOException Thrown, when the reply could not be written.
+     */
+    private boolean applyInput(final @NotNull Input input) throws IOException {
+        engine.applyInput(input);
+        writer.write("OK " + engine.getTickCount() + "\n");
+        return true;
+    }
+
+    /**
+     * Writes the game-over notification, if the game has ended since the last one.
+     *
+     * @throws IOException Thrown, when the notification could not be written.
+     */
+    private void sendGameOver() throws IOException {
+        if (gameOverPending) {
+            gameOverPending = false;
+            writer.write("OVER " + engine.getTickCount() + " " + engine.getStats().getRemovedLines() + "\n");
+        }
+    }
+
+    /**
+     * Formats the reply of the {@code STATE} command.
+     *
+     * @return Returns the reply line.
+     */
+    private @NotNull String formatState() {
+        final Board board = engine.getBoard();
+        final PieceType shape = board.getCurrentShape();
+        final StringBuilder builder = new StringBuilder(64 + GameConstants.LINES * 4)
+                .append("STATE ").append(engine.getTickCount())
+                .append(' ').append(engine.getStats().getRemovedLines())
+                .append(' ').append(engine.isPaused())
+                .append(' ').append(engine.isGameOver())
+                .append(' ').append(shape == null ? 0 : shape.getId())
+                .append(' ').append(board.getPosX())
+                .append(' ').append(board.getPosY())
+                .append(' ').append(board.getRotation())
+                .append(' ');
+        final int[] occupancy = board.getOccupancy();
+        for (int line = 0; line < occupancy.length; line++) {
+            if (line > 0) {
+                builder.append(',');
+            }
+            builder.append(Integer.toHexString(occupancy[line]));
+        }
+        return builder.append('\n').toString();
+    }
+
+    /**
+     * Closes the connection, which ends the session.
+     */
+    void close() {
+        closed = true;
+        try {
+            socket.close();
+        } catch (final IOException e) {
+            logger.log(Level.FINE, "Failed to close the connection of a session", e);
+        }
+    }
+
+    @Override
+    public void onGameOver() {
+        gameOverPending = true;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.server;
+
+import io.github.blockythedev.tetris.utils.LatencyHistogram;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A load generator connecting many clients to a {@link GameServer}, which play random inputs.
+ * <p>
+ * Every client runs on its own virtual thread and sends an input about every input interval.
+ * A game is started again, when it is over, so that the load stays the same during the whole measurement.
+ * The tick latencies of the server are only measured after all clients have connected.
+ * </p>
+ */
+public class LoadGenerator {
+    private static final Logger logger = Logger.getLogger(LoadGenerator.class.getName());
+    /**
+     * The commands sent by the clients, where the drop is rare, so that the games do not end too fast.
+     */
+    private static final String[] COMMANDS = {"LEFT", "RIGHT", "CW", "CCW", "LEFT", "RIGHT", "CW", "CCW", "DROP"};
+
+    private final int sessions;
+    private final long inputIntervalNanos;
+
+    /**
+     * Constructs a {@link LoadGenerator}.
+     *
+     * @param sessions The number of concurrent sessions.
+     * @param inputIntervalNanos The average interval between two inputs of a client.
+     */
+    public LoadGenerator(final int sessions, final long inputIntervalNanos) {
+        this.sessions = sessions;
+        this.inputIntervalNanos = inputIntervalNanos;
+    }
+
+    /**
+     * Runs the load against a server and measures it.
+     *
+     * @param server The started server.
+     * @param duration The duration of the measurement after all clients have connected.
+     * @return Returns the report of the measurement.
+     */
+    public @NotNull Report run(final @NotNull GameServer server, final @NotNull Duration duration) {
+        final LatencyHistogram requestLatency = new LatencyHistogram();
+        final LongAdder requests = new LongAdder();
+        final AtomicInteger failures = new AtomicInteger();
+
+        final GameClient[] clients = new GameClient[sessions];
+        for (int i = 0; i < sessions; i++) {
+            try {
+                clients[i] = new GameClient(server.getPort());
+            } catch (final IOException e) {
+                logger.log(Level.WARNING, "Failed to connect the client " + i, e);
+                failures.incrementAndGet();
+            }
+        }
+
+        // the measurement starts after all clients have connected
+        server.getTickLatency().reset();
+        final long start = System.nanoTime();
+        final long end = start + duration.toNanos();
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (final GameClient client : clients) {
+                if (client != null) {
+                    executor.execute(() -> play(client, end, requestLatency, requests, failures));
+                }
+            }
+        }
+        final double seconds = (double) (System.nanoTime() - start) / TimeUnit.SECONDS.toNanos(1);
+
+        final LatencyHistogram tickLatency = server.getTickLatency();
+        final int processors = Runtime.getRuntime().availableProcessors();
+        return new Report(sessions - failures.get(), processors, seconds,
+                tickLatency.getCount(), tickLatency.getPercentile(50), tickLatency.getPercentile(99), tickLatency.getMax(),
+                requests.sum(), requestLatency.getPercentile(99));
+    }
+
+    /**
+     * Plays random inputs with a client, until the end of the measurement.
+     *
+     * @param client The connected client.
+     * @param end The end of the measurement in {@link System#nanoTime()}.
+     * @param requestLatency The histogram to record the round-trip times to.
+     * @param requests The counter of the sent commands.
+     * @param failures The counter of the failed clients.
+     */
+    private void play(final @NotNull GameClient client, final long end, final @NotNull LatencyHistogram requestLatency,
+                      final @NotNull LongAdder requests, final @NotNull AtomicInteger failures) {
+        try (client) {
+            final ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (System.nanoTime() < end) {
+                // the jitter spreads the inputs of all clients over the interval
+                Thread.sleep(Duration.ofNanos(random.nextLong(inputIntervalNanos * 2 + 1)));
+                final long sent = System.nanoTime();
+                client.send(client.takeGameOver() ? "NEW" : COMMANDS[random.nextInt(COMMANDS.length)]);
+                requestLatency.record(System.nanoTime() - sent);
+                requests.increment();
+            }
+            client.send("QUIT");
+        } catch (final IOException e) {
+            logger.log(Level.WARNING, "A client failed", e);
+            failures.incrementAndGet();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The result of a measurement.
+     *
+     * @param sessions The number of sessions, which played until the end.
+     * @param processors The number of available processors.
+     * @param seconds The duration of the measurement in seconds.
+     * @param ticks The number of ticks of all sessions.
+     * @param tickP50 The median tick latency in nanoseconds.
+     * @param tickP99 The 99th percentile of the tick latency in nanoseconds.
+     * @param tickMax The highest tick latency in nanoseconds.
+     * @param requests The number of commands sent by all clients.
+     * @param requestP99 The 99th percentile of the round-trip time of a command in nanoseconds.
+     */
+    public record Report(int sessions, int processors, double seconds, long ticks, long tickP50, long tickP99, long tickMax,
+                         long requests, long requestP99) {
+        /**
+         * Gets the number of sessions per processor.
+         *
+         * @return Returns the sessions per core.
+         */
+        public double getSessionsPerCore() {
+            return (double) sessions / processors;
+        }
+    }
+}
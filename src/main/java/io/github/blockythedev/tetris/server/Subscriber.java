@@ -0,0 +1,230 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A client connection of the {@link DeltaServer}, which receives the frames of a game.
+ * <p>
+ * The frames are queued by reference and written with one gathering write per tick.
+ * While the socket is busy, the frames of the following ticks are queued and written together.
+ * A subscriber, which falls more than {@link #MAX_QUEUED_FRAMES} frames behind, is coalesced:
+ * the queued frames are dropped and replaced by the next snapshot, so that it never holds up the game.
+ * A subscriber, which does not take any byte for {@link #STALL_TIMEOUT_MS} milliseconds, is dropped.
+ * </p>
+ * <p>
+ * Note: Instances of this class are not thread-safe.
+ * </p>
+ */
+final class Subscriber {
+    /**
+     * The maximum number of queued frames, before the subscriber is coalesced.
+     */
+    static final int MAX_QUEUED_FRAMES = 64;
+    /**
+     * The time without any progress, after which a subscriber is dropped.
+     */
+    static final long STALL_TIMEOUT_MS = 10_000;
+
+    private final DeltaServer server;
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final ArrayDeque<Frame> frames;
+    private final ByteBuffer[] writeBuffers;
+    private ByteBuffer headView;
+    private boolean snapshotRequested;
+    private long stalledSinceNanos;
+    private DeltaGame game;
+
+    /**
+     * Constructs a {@link Subscriber}.
+     *
+     * @param server The server.
+     * @param channel The channel of the client connection.
+     * @param key The selection key of the channel.
+     */
+    Subscriber(final @NotNull DeltaServer server, final @NotNull SocketChannel channel, final @NotNull SelectionKey key) {
+        this.server = server;
+        this.channel = channel;
+        this.key = key;
+        frames = new ArrayDeque<>();
+        writeBuffers = new ByteBuffer[MAX_QUEUED_FRAMES + 1];
+    }
+
+    /**
+     * Queues a frame, unless the subscriber waits for a snapshot.
+     *
+     * @param frame The frame.
+     */
+    void enqueue(final @NotNull Frame frame) {
+        if (snapshotRequested) {
+            return;
+        }
+        if (frames.size() >= MAX_QUEUED_FRAMES) {
+            coalesce();
+            return;
+        }
+        frame.retain();
+        frames.addLast(frame);
+    }
+
+    /**
+     * Drops the queued frames, which have not been started to write, and requests a snapshot instead.
+     */
+    private void coalesce() {
+        final Frame head = headView == null ? null : frames.pollFirst();
+        Frame frame;
+        while ((frame = frames.pollFirst()) != null) {
+            frame.release(server.getBufferPool());
+        }
+        if (head != null) {
+            // the started frame must be completed, so that the stream stays decodable
+            frames.addFirst(head);
+        }
+        snapshotRequested = true;
+        server.countCoalesced();
+    }
+
+    /**
+     * Requests a snapshot, which replaces all following frames until it is sent.
+     */
+    void requestSnapshot() {
+        snapshotRequested = true;
+    }
+
+    /**
+     * Checks, if the subscriber waits for a snapshot.
+     *
+     * @return Returns {@code true} if a snapshot is requested, else {@code false}.
+     */
+    boolean isSnapshotRequested() {
+        return snapshotRequested;
+    }
+
+    /**
+     * Queues the snapshot.
+     *
+     * @param snapshot The shared snapshot frame.
+     */
+    void sendSnapshot(final @NotNull Frame snapshot) {
+        snapshotRequested = false;
+        snapshot.retain();
+        frames.addLast(snapshot);
+    }
+
+    /**
+     * Writes the queued frames, as far as the socket takes them, and registers for writing the rest.
+     *
+     * @throws IOException Thrown, when the frames could not be written.
+     */
+    void flush() throws IOException {
+        if (frames.isEmpty()) {
+            return;
+        }
+        int count = 0;
+        for (final Frame frame : frames) {
+            writeBuffers[count] = count == 0 && headView != null ? headView : frame.view();
+            count++;
+        }
+
+        final long written = channel.write(writeBuffers, 0, count);
+        server.addBytesSent(written);
+        int index = 0;
+        while (!frames.isEmpty() && !writeBuffers[index].hasRemaining()) {
+            frames.pollFirst().release(server.getBufferPool());
+            writeBuffers[index++] = null;
+        }
+        headView = frames.isEmpty() ? null : writeBuffers[index];
+        for (int i = index; i < count; i++) {
+            writeBuffers[i] = null;
+        }
+
+        if (written > 0 || frames.isEmpty()) {
+            stalledSinceNanos = 0;
+        }
+        if (!frames.isEmpty() && stalledSinceNanos == 0) {
+            stalledSinceNanos = System.nanoTime();
+        }
+        key.interestOps(frames.isEmpty() ? SelectionKey.OP_READ : SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+    }
+
+    /**
+     * Checks, if the socket has not taken any byte of the queued frames for too long.
+     *
+     * @param now The current time in {@link System#nanoTime()}.
+     * @return Returns {@code true} if the subscriber has stalled and should be dropped, else {@code false}.
+     */
+    boolean isStalled(final long now) {
+        return stalledSinceNanos != 0 && now - stalledSinceNanos > TimeUnit.MILLISECONDS.toNanos(STALL_TIMEOUT_MS);
+    }
+
+    /**
+     * Checks, if the socket is busy with writing queued frames.
+     *
+     * @return Returns {@code true} if the subscriber waits for the socket to become writable, else {@code false}.
+     */
+    boolean isWriting() {
+        return (key.interestOps() & SelectionKey.OP_WRITE) != 0;
+    }
+
+    /**
+     * Releases the queued frames, when the connection is closed.
+     */
+    void close() {
+        Frame frame;
+        while ((frame = frames.pollFirst()) != null) {
+            frame.release(server.getBufferPool());
+        }
+        headView = null;
+    }
+
+    /**
+     * Gets the channel of the client connection.
+     *
+     * @return Returns the channel.
+     */
+    @NotNull SocketChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     * Gets the game played by the subscriber.
+     *
+     * @return Returns the game or {@code null}, if the subscriber is a spectator.
+     */
+    @Nullable DeltaGame getGame() {
+        return game;
+    }
+
+    /**
+     * Sets the game played by the subscriber.
+     *
+     * @param game The game or {@code null}, if the subscriber becomes a spectator.
+     */
+    void setGame(final @Nullable DeltaGame game) {
+        this.game = game;
+    }
+}
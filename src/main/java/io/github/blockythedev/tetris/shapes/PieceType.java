@@ -0,0 +1,164 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.shapes;
+
+import io.github.blockythedev.tetris.utils.Block;
+import io.github.blockythedev.tetris.utils.Rotation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * This enum represents the table of all piece types.
+ * <p>
+ * All rotations of a piece are precomputed once and stored in arrays indexed by {@link Rotation#ordinal()}.
+ * Adding a new piece only needs a new entry with its text pattern.
+ * </p>
+ */
+public enum PieceType {
+    /**
+     * The {@literal Four-Line} shape.
+     */
+    FOUR_LINE(false, "####"),
+    /**
+     * The {@literal L} shape opened to the left.
+     */
+    L_LEFT(false, ".#", ".#", "##"),
+    /**
+     * The {@literal L} shape opened to the right.
+     */
+    L_RIGHT(false, "#.", "#.", "##"),
+    /**
+     * The {@literal mirrored T} shape.
+     */
+    T_TURNED(false, ".#.", "###"),
+    /**
+     * The {@literal Square} shape.
+     */
+    SQUARE(true, "##", "##"),
+    /**
+     * The {@literal Z} shape opened to the left.
+     */
+    Z_LEFT(false, ".##", "##."),
+    /**
+     * The {@literal Z} shape opened to the right.
+     */
+    Z_RIGHT(false, "##.", ".##");
+
+    private static final PieceType[] VALUES = values();
+
+    private final byte id;
+    private final Block block;
+    private final Block[][][] shapeList;
+    private final int[][] maskList;
+    private final int[][] bottomProfileList;
+
+    /**
+     * Constructs a piece type from its text pattern.
+     *
+     * @param isNotRotatable {@code true} if the shape is <u>not</u> rotatable, else {@code false}.
+     * @param pattern The text pattern of the normal rotated shape, see {@link Shape#parseShape(Block, String...)}.
+     */
+    PieceType(final boolean isNotRotatable, final @NotNull String @NotNull... pattern) {
+        id = (byte) (ordinal() + 1);
+        block = Shape.generateColoredBlock();
+        shapeList = Shape.generateShapeList(Shape.parseShape(block, pattern), isNotRotatable);
+        maskList = Shape.generateMaskList(shapeList);
+        bottomProfileList = new int[shapeList.length][];
+        for (int rotation = 0; rotation < shapeList.length; rotation++) {
+            bottomProfileList[rotation] = Shape.generateBottomProfile(shapeList[rotation]);
+        }
+    }
+
+    /**
+     * Gets the piece type by its id.
+     *
+     * @param id The id of the piece type, see {@link #getId()}.
+     * @return Returns the piece type or {@code null}, if the id is {@code 0} and therefore represents an empty cell.
+     */
+    public static @Nullable PieceType fromId(final int id) {
+        return id == 0 ? null : VALUES[id - 1];
+    }
+
+    /**
+     * Gets the id of the piece type.
+     *
+     * @return Returns the id, which is never {@code 0} as this value is reserved for empty cells.
+     */
+    public byte getId() {
+        return id;
+    }
+
+    /**
+     * Gets the block of the piece type.
+     *
+     * @return Returns the colored block used for all cells of this piece type.
+     */
+    public @NotNull Block getBlock() {
+        return block;
+    }
+
+    /**
+     * Gets the shape.
+     *
+     * @param rotation The rotation.
+     * @return Returns the shape.
+     */
+    public @Nullable Block @NotNull[] @NotNull[] getShape(final @NotNull Rotation rotation) {
+        return shapeList[rotation.ordinal()];
+    }
+
+    /**
+     * Gets the width of the shape.
+     *
+     * @param rotation The rotation.
+     * @return Returns the number of columns of the shape.
+     */
+    public int getWidth(final @NotNull Rotation rotation) {
+        return shapeList[rotation.ordinal()][0].length;
+    }
+
+    /**
+     * Gets the height of the shape.
+     *
+     * @param rotation The rotation.
+     * @return Returns the number of lines of the shape.
+     */
+    public int getHeight(final @NotNull Rotation rotation) {
+        return shapeList[rotation.ordinal()].length;
+    }
+
+    /**
+     * Gets the occupancy row masks of the shape.
+     *
+     * @param rotation The rotation.
+     * @return Returns one occupancy mask per shape row.
+     */
+    public int @NotNull[] getRowMasks(final @NotNull Rotation rotation) {
+        return maskList[rotation.ordinal()];
+    }
+
+    /**
+     * Gets the bottom profile of the shape.
+     *
+     * @param rotation The rotation.
+     * @return Returns the lowest shape row containing a block per shape column.
+     */
+    public int @NotNull[] getBottomProfile(final @NotNull Rotation rotation) {
+        return bottomProfileList[rotation.ordinal()];
+    }
+}
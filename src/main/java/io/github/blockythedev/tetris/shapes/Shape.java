@@ -22,20 +22,42 @@ import io.github.blockythedev.tetris.utils.Rotation;
 import io.github.blockythedev.tetris.utils.Utils;
 import java.awt.Color;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
- * An abstract class representing the base shape.
+ * A final class containing the shape generation logic used for building the {@link PieceType} table.
  */
-public abstract class Shape {
+public final class Shape {
     /**
-     * Constructs the class {@link Shape}.
+     * Prevents the constructor from being called.
+     *
+     * @throws UnsupportedOperationException Thrown, when the constructor gets called.
      */
-    public Shape() {
-        // default constructor
+    private Shape() {
+        throw new UnsupportedOperationException("Cannot instantiate class");
+    }
+
+    /**
+     * Parses a shape from its text pattern.
+     * <p>
+     * Each pattern entry is one shape row, where {@code #} represents a block and every other character an empty cell.
+     * </p>
+     *
+     * @param block The block to use for the filled cells.
+     * @param pattern The text pattern with one entry per row.
+     * @return Returns the parsed shape.
+     */
+    public static @Nullable Block @NotNull[] @NotNull[] parseShape(final @NotNull Block block, final @NotNull String @NotNull... pattern) {
+        final Block[][] shape = new Block[pattern.length][pattern[0].length()];
+        for (int row = 0; row < pattern.length; row++) {
+            for (int column = 0; column < pattern[row].length(); column++) {
+                if (pattern[row].charAt(column) == '#') {
+                    shape[row][column] = block;
+                }
+            }
+        }
+        return shape;
     }
 
     /**
@@ -137,37 +159,72 @@ public abstract class Shape {
     }
 
     /**
-     * Generates a random colored block instance.
+     * Generates the shape rotated in all directions.
      *
      * @param normalRotatedShape The normal rotated shape.
      * @param isNotRotatable Whether the shape is a not rotatable.
-     * @return Returns a map with the shape rotated in all directions.
+     * @return Returns an array with the shape rotated in all directions, indexed by {@link Rotation#ordinal()}.
      */
-    public static @NotNull Map<Rotation, Block[][]> generateShapeList(final @Nullable Block @NotNull[] @NotNull[] normalRotatedShape, final boolean isNotRotatable) {
-        Map<Rotation, Block[][]> shapeList = new HashMap<>();
-        shapeList.put(Rotation.NORMAL, normalRotatedShape);
-        shapeList.put(Rotation.RIGHT, Shape.rotateShape(normalRotatedShape, Rotation.RIGHT, isNotRotatable));
-        shapeList.put(Rotation.MIRRORED, Shape.rotateShape(normalRotatedShape, Rotation.MIRRORED, isNotRotatable));
-        shapeList.put(Rotation.LEFT, Shape.rotateShape(normalRotatedShape, Rotation.LEFT, isNotRotatable));
+    public static @Nullable Block @NotNull[] @NotNull[] @NotNull[] generateShapeList(final @Nullable Block @NotNull[] @NotNull[] normalRotatedShape, final boolean isNotRotatable) {
+        final Rotation[] rotations = Rotation.values();
+        final Block[][][] shapeList = new Block[rotations.length][][];
+        for (final Rotation rotation : rotations) {
+            shapeList[rotation.ordinal()] = rotation == Rotation.NORMAL ? normalRotatedShape : Shape.rotateShape(normalRotatedShape, rotation, isNotRotatable);
+        }
         return shapeList;
     }
 
     /**
-     * Checks if the shape can be rotated or not.
+     * Converts a shape into its occupancy row masks.
+     * <p>
+     * Bit {@code n} of a row mask is set, when the shape has a block in column {@code n} of that row.
+     * </p>
      *
-     * @return Returns whether the shape is a rotatable one.
+     * @param shape The raw 2d-array shape.
+     * @return Returns one occupancy mask per shape row.
      */
-    public static boolean isNotRotatable() {
-        return false;
+    public static int @NotNull[] generateRowMasks(final @Nullable Block @NotNull[] @NotNull[] shape) {
+        final int[] rowMasks = new int[shape.length];
+        for (int row = 0; row < shape.length; row++) {
+            for (int column = 0; column < shape[row].length; column++) {
+                if (shape[row][column] != null) {
+                    rowMasks[row] |= 1 << column;
+                }
+            }
+        }
+        return rowMasks;
     }
 
     /**
-     * Gets the shape.
+     * Generates the bottom profile of a shape.
      *
-     * @param rotation The rotation.
-     * @return Returns the shape-
+     * @param shape The raw 2d-array shape.
+     * @return Returns the lowest shape row containing a block per shape column or {@code -1}, if the column is empty.
+     */
+    public static int @NotNull[] generateBottomProfile(final @Nullable Block @NotNull[] @NotNull[] shape) {
+        final int[] bottomProfile = new int[shape[0].length];
+        Arrays.fill(bottomProfile, -1);
+        for (int row = 0; row < shape.length; row++) {
+            for (int column = 0; column < shape[row].length; column++) {
+                if (shape[row][column] != null) {
+                    bottomProfile[column] = row;
+                }
+            }
+        }
+        return bottomProfile;
+    }
+
+    /**
+     * Generates the occupancy row masks for all rotations of a shape.
+     *
+     * @param shapeList The shape rotated in all directions, indexed by {@link Rotation#ordinal()}.
+     * @return Returns the occupancy row masks of the shape rotated in all directions, indexed by {@link Rotation#ordinal()}.
      */
-    public @Nullable Block @NotNull[] @NotNull[] getShape(final @NotNull Rotation rotation) {
-        throw new IllegalStateException("Method 'getShape' not overwritten");
+    public static int @NotNull[] @NotNull[] generateMaskList(final @Nullable Block @NotNull[] @NotNull[] @NotNull[] shapeList) {
+        final int[][] maskList = new int[shapeList.length][];
+        for (int rotation = 0; rotation < shapeList.length; rotation++) {
+            maskList[rotation] = generateRowMasks(shapeList[rotation]);
+        }
+        return maskList;
     }
 }
@@ -17,106 +17,241 @@
  */
 package io.github.blockythedev.tetris.ui;
 
-
 import io.github.blockythedev.tetris.constants.GameConstants;
+import io.github.blockythedev.tetris.constants.UiConstants;
 import io.github.blockythedev.tetris.logic.Board;
-import io.github.blockythedev.tetris.logic.GameManager;
-import io.github.blockythedev.tetris.logic.KeyManager;
-import io.github.blockythedev.tetris.shapes.Shape;
-import io.github.blockythedev.tetris.utils.Block;
-import java.awt.BorderLayout;
+import io.github.blockythedev.tetris.logic.DirtyRegion;
+import io.github.blockythedev.tetris.logic.FrameRenderer;
+import io.github.blockythedev.tetris.logic.GameEngine;
+import io.github.blockythedev.tetris.logic.LandingCache;
+import io.github.blockythedev.tetris.metrics.PaintEvent;
+import io.github.blockythedev.tetris.shapes.PieceType;
+import java.awt.AWTException;
+import java.awt.BufferCapabilities;
+import java.awt.Canvas;
 import java.awt.Dimension;
 import java.awt.Graphics;
-import javax.swing.JPanel;
+import java.awt.ImageCapabilities;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * This class contains the screen container for the drawn shapes.
+ * <p>
+ * The screen is actively rendered by the game loop through a {@link BufferStrategy}.
+ * A frame is only rendered, when the board has changed or the screen has been exposed.
+ * All drawing happens on the game loop thread, an exposure on the event dispatch thread only requests a frame.
+ * </p>
+ * <p>
+ * Below the current shape, a ghost of the shape is drawn at its landing position.
+ * </p>
  */
-public class BlockContainerScreen extends JPanel {
+public class BlockContainerScreen extends Canvas implements FrameRenderer {
+    /**
+     * The game engine.
+     */
+    private final GameEngine engine;
+    /**
+     * The cache of the pre-rendered blocks.
+     */
+    private final BlockTileCache tileCache;
+    /**
+     * The cache of the landing positions for the ghost shape.
+     */
+    private final LandingCache landingCache;
     /**
-     * The game manager.
+     * Whether the whole screen must be rendered with the next frame.
      */
-    private final GameManager gameManager;
+    private volatile boolean fullRenderRequested;
+    /**
+     * The handler waking up the renderer, when the screen was exposed.
+     */
+    private volatile Runnable renderRequestHandler;
 
     /**
      * Constructs an instance of the block container screen.
      *
-     * @param gameManager The game manager instance.
+     * @param engine The game engine instance.
      */
-    public BlockContainerScreen(final @NotNull GameManager gameManager) {
-        this.gameManager = gameManager;
+    public BlockContainerScreen(final @NotNull GameEngine engine) {
+        this.engine = engine;
+        tileCache = new BlockTileCache();
+        landingCache = new LandingCache(engine.getBoard());
     }
 
     /**
      * Initialises the block container screen.
      */
     public void initUI() {
-        setPreferredSize(new Dimension(GameConstants.COLUMNS * GameConstants.SCREEN_FACTOR, GameConstants.LINES * GameConstants.SCREEN_FACTOR));
-        setLayout(new BorderLayout());
+        setPreferredSize(new Dimension(GameConstants.COLUMNS * UiConstants.SCREEN_FACTOR, GameConstants.LINES * UiConstants.SCREEN_FACTOR));
         setFocusable(true);
-        addKeyListener(new KeyManager(gameManager));
     }
 
     /**
-     * Draws a block with shadow.
+     * Creates the buffer strategy, preferring page flipping over copying the back buffer.
+     * <p>
+     * Note: This must be called after the screen has been made displayable.
+     * </p>
+     */
+    public void initBufferStrategy() {
+        try {
+            createBufferStrategy(2, new BufferCapabilities(new ImageCapabilities(true), new ImageCapabilities(true), BufferCapabilities.FlipContents.UNDEFINED));
+        } catch (final AWTException e) {
+            // page flipping is not supported, so the back buffer is copied instead
+            createBufferStrategy(2);
+        }
+        fullRenderRequested = true;
+    }
+
+    @Override
+    public boolean render() {
+        final BufferStrategy bufferStrategy = getBufferStrategy();
+        final DirtyRegion dirtyRegion = engine.getBoard().getDirtyRegion();
+        if (bufferStrategy == null || (!dirtyRegion.isDirty() && !fullRenderRequested)) {
+            return false;
+        }
+
+        final boolean requested = fullRenderRequested;
+        fullRenderRequested = false;
+        do {
+            do {
+                final Graphics graphics = bufferStrategy.getDrawGraphics();
+                try {
+                    drawBoard(graphics, requested);
+                } finally {
+                    graphics.dispose();
+                }
+            } while (bufferStrategy.contentsRestored());
+            bufferStrategy.show();
+        } while (bufferStrategy.contentsLost());
+        Toolkit.getDefaultToolkit().sync();
+        dirtyRegion.clear();
+        return true;
+    }
+
+    /**
+     * Draws a block from the tile cache.
      *
      * @param graphics The {@link Graphics} context to use for drawing.
-     * @param block The block to draw.
+     * @param pieceType The piece type of the block to draw.
      * @param x The left side x-coordinate.
      * @param y The upper side y-coordinate.
      * @param width The block width.
      * @param height The block height.
      */
-    private void drawBlock(final @NotNull Graphics graphics, final @NotNull Block block, final int x, final int y, final int width, final int height) {
-        graphics.setColor(block.color());
-        graphics.fillRect(x, y, width, height);
-        graphics.setColor(block.color().brighter());
-        // Line (Left): Bottom-Left -> Top-Left
-        graphics.drawLine(x, y + height - 1, x, y);
-        // Line (Top): Top-Left -> Top-Right
-        graphics.drawLine(x, y, x + width - 1, y);
-        graphics.setColor(block.color().darker());
-        // Line (Bottom): Bottom-Left -> Bottom-Right
-        graphics.drawLine(x + 1, y + height - 1, x + width - 1, y + height - 1);
-        // Line (Right): Bottom-Right -> Top-Right
-        graphics.drawLine(x + width - 1, y + height - 1, x + width - 1, y + 1);
+    private void drawBlock(final @NotNull Graphics graphics, final @NotNull PieceType pieceType, final int x, final int y, final int width, final int height) {
+        graphics.drawImage(tileCache.getTile(getGraphicsConfiguration(), pieceType, width, height), x, y, null);
+    }
+
+    /**
+     * Sets the handler waking up the renderer, when the screen was exposed.
+     *
+     * @param renderRequestHandler The handler, which is called on the event dispatch thread.
+     */
+    public void setRenderRequestHandler(final @Nullable Runnable renderRequestHandler) {
+        this.renderRequestHandler = renderRequestHandler;
     }
 
     @Override
     public void paint(final @NotNull Graphics graphics) {
-        super.paint(graphics);
-        final Board board = gameManager.getBoard();
-        final Block[][] boardArray = board.getBoard();
+        // the screen was exposed, so the next frame must contain everything again,
+        // but the board is only drawn by the game loop, as it is changed there
+        fullRenderRequested = true;
+        final Runnable handler = renderRequestHandler;
+        if (handler != null) {
+            handler.run();
+        }
+    }
+
+    @Override
+    public void update(final @NotNull Graphics graphics) {
+        paint(graphics);
+    }
+
+    /**
+     * Draws the board and the current shape.
+     * <p>
+     * Note: This must be called on the thread driving the engine.
+     * </p>
+     *
+     * @param graphics The {@link Graphics} context to use for drawing.
+     * @param requested Whether the frame was requested by the screen instead of being drawn for board changes.
+     */
+    public void drawBoard(final @NotNull Graphics graphics, final boolean requested) {
+        final PaintEvent event = new PaintEvent();
+        event.begin();
+        final int cellsDrawn = drawCells(graphics);
+        if (event.shouldCommit()) {
+            event.cellsDrawn = cellsDrawn;
+            event.requested = requested;
+            event.commit();
+        }
+    }
+
+    /**
+     * Draws the cells of the board, the ghost and the current shape onto the whole screen.
+     *
+     * @param graphics The {@link Graphics} context to use for drawing.
+     * @return Returns the number of drawn cells.
+     */
+    private int drawCells(final @NotNull Graphics graphics) {
+        graphics.setColor(getBackground());
+        graphics.fillRect(0, 0, getWidth(), getHeight());
+
+        final Board board = engine.getBoard();
+        final byte[][] boardArray = board.getBoard();
+        final int[] occupancy = board.getOccupancy();
         final int screenBlockWidth = getWidth() / GameConstants.COLUMNS;
         final int screenBlockHeight = getHeight() / GameConstants.LINES;
+        if (screenBlockWidth == 0 || screenBlockHeight == 0) {
+            return 0;
+        }
 
-        // draws the current board state onto the screen
-        for (int boardRow = 0; boardRow < boardArray.length; boardRow++) {
-            for (int boardColumn = 0; boardColumn < boardArray[boardRow].length; boardColumn++) {
-                final Block block = boardArray[boardRow][boardColumn];
-                if (block == null) {
-                    continue;
-                }
-                drawBlock(graphics, block, boardColumn * screenBlockWidth, boardRow * screenBlockHeight, screenBlockWidth, screenBlockHeight);
+        // draws the current board state onto the screen, visiting only the occupied cells
+        int cellsDrawn = 0;
+        for (int boardRow = 0; boardRow < occupancy.length; boardRow++) {
+            int columns = occupancy[boardRow];
+            while (columns != 0) {
+                final int boardColumn = Integer.numberOfTrailingZeros(columns);
+                drawBlock(graphics, PieceType.fromId(boardArray[boardRow][boardColumn]), boardColumn * screenBlockWidth, boardRow * screenBlockHeight, screenBlockWidth, screenBlockHeight);
+                cellsDrawn++;
+                columns &= columns - 1;
             }
         }
 
-        final Shape currentShape = board.getCurrentShape();
+        final PieceType currentShape = board.getCurrentShape();
         if (currentShape == null) {
-            return;
+            return cellsDrawn;
         }
 
-        // draws the current shape onto the screen
-        final Block[][] shape = currentShape.getShape(board.getRotation());
-        for (int shapeRow = 0; shapeRow < shape.length; shapeRow++) {
-            for (int shapeColumn = 0; shapeColumn < shape[shapeRow].length; shapeColumn++) {
-                final Block block = shape[shapeRow][shapeColumn];
-                if (block == null) {
-                    continue;
+        // draws the ghost first, so that the current shape is drawn on top of it, when both overlap
+        final int[] rowMasks = currentShape.getRowMasks(board.getRotation());
+        final int ghostPosY = landingCache.getLandingPosY(currentShape, board.getRotation(), board.getPosX(), board.getPosY());
+        if (ghostPosY != board.getPosY()) {
+            for (int shapeRow = 0; shapeRow < rowMasks.length; shapeRow++) {
+                int columns = rowMasks[shapeRow];
+                while (columns != 0) {
+                    final int shapeColumn = Integer.numberOfTrailingZeros(columns);
+                    graphics.drawImage(tileCache.getGhostTile(getGraphicsConfiguration(), currentShape, screenBlockWidth, screenBlockHeight),
+                            (shapeColumn + board.getPosX()) * screenBlockWidth, (shapeRow + ghostPosY) * screenBlockHeight, null);
+                    cellsDrawn++;
+                    columns &= columns - 1;
                 }
-                drawBlock(graphics, block, (shapeColumn + board.getPosX()) * screenBlockWidth, (shapeRow + board.getPosY()) * screenBlockHeight, screenBlockWidth, screenBlockHeight);
             }
         }
+
+        // draws the current shape onto the screen
+        for (int shapeRow = 0; shapeRow < rowMasks.length; shapeRow++) {
+            int columns = rowMasks[shapeRow];
+            while (columns != 0) {
+                final int shapeColumn = Integer.numberOfTrailingZeros(columns);
+                drawBlock(graphics, currentShape, (shapeColumn + board.getPosX()) * screenBlockWidth, (shapeRow + board.getPosY()) * screenBlockHeight, screenBlockWidth, screenBlockHeight);
+                cellsDrawn++;
+                columns &= columns - 1;
+            }
+        }
+        return cellsDrawn;
     }
 }
@@ -0,0 +1,171 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.ui;
+
+import io.github.blockythedev.tetris.shapes.PieceType;
+import io.github.blockythedev.tetris.utils.Block;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A cache for the pre-rendered block images of all piece types.
+ * <p>
+ * Besides the solid blocks, the cache contains a translucent ghost variant per piece type for the landing preview.
+ * </p>
+ * <p>
+ * Every tile is rendered once per block size and then only copied onto the screen.
+ * The cache is invalidated, when the block size changes.
+ * </p>
+ */
+public class BlockTileCache {
+    /**
+     * The alpha value of the filling of the ghost blocks.
+     */
+    private static final int GHOST_FILL_ALPHA = 48;
+
+    private final BufferedImage[] tiles;
+    private final BufferedImage[] ghostTiles;
+    private int tileWidth;
+    private int tileHeight;
+
+    /**
+     * Constructs an empty {@link BlockTileCache}.
+     */
+    public BlockTileCache() {
+        tiles = new BufferedImage[PieceType.values().length];
+        ghostTiles = new BufferedImage[PieceType.values().length];
+    }
+
+    /**
+     * Gets the tile of a piece type, which is rendered on the first call for the given size.
+     *
+     * @param graphicsConfiguration The graphics configuration of the target component
+     *                              or {@code null}, if the component is not displayed.
+     * @param pieceType The piece type.
+     * @param width The block width.
+     * @param height The block height.
+     * @return Returns the tile image.
+     */
+    public @NotNull BufferedImage getTile(final @Nullable GraphicsConfiguration graphicsConfiguration, final @NotNull PieceType pieceType, final int width, final int height) {
+        checkSize(width, height);
+
+        BufferedImage tile = tiles[pieceType.ordinal()];
+        if (tile == null) {
+            tile = graphicsConfiguration == null
+                    ? new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB)
+                    : graphicsConfiguration.createCompatibleImage(width, height);
+            final Graphics graphics = tile.createGraphics();
+            try {
+                drawBlock(graphics, pieceType.getBlock(), width, height);
+            } finally {
+                graphics.dispose();
+            }
+            tiles[pieceType.ordinal()] = tile;
+        }
+        return tile;
+    }
+
+    /**
+     * Gets the ghost tile of a piece type, which is rendered on the first call for the given size.
+     *
+     * @param graphicsConfiguration The graphics configuration of the target component
+     *                              or {@code null}, if the component is not displayed.
+     * @param pieceType The piece type.
+     * @param width The block width.
+     * @param height The block height.
+     * @return Returns the translucent tile image.
+     */
+    public @NotNull BufferedImage getGhostTile(final @Nullable GraphicsConfiguration graphicsConfiguration, final @NotNull PieceType pieceType, final int width, final int height) {
+        checkSize(width, height);
+
+        BufferedImage tile = ghostTiles[pieceType.ordinal()];
+        if (tile == null) {
+            tile = graphicsConfiguration == null
+                    ? new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB)
+                    : graphicsConfiguration.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+            final Graphics graphics = tile.createGraphics();
+            try {
+                drawGhostBlock(graphics, pieceType.getBlock(), width, height);
+            } finally {
+                graphics.dispose();
+            }
+            ghostTiles[pieceType.ordinal()] = tile;
+        }
+        return tile;
+    }
+
+    /**
+     * Invalidates the cached tiles, if the block size has changed.
+     *
+     * @param width The block width.
+     * @param height The block height.
+     */
+    private void checkSize(final int width, final int height) {
+        if (width != tileWidth || height != tileHeight) {
+            Arrays.fill(tiles, null);
+            Arrays.fill(ghostTiles, null);
+            tileWidth = width;
+            tileHeight = height;
+        }
+    }
+
+    /**
+     * Draws a block with shadow.
+     *
+     * @param graphics The {@link Graphics} context to use for drawing.
+     * @param block The block to draw.
+     * @param width The block width.
+     * @param height The block height.
+     */
+    private static void drawBlock(final @NotNull Graphics graphics, final @NotNull Block block, final int width, final int height) {
+        graphics.setColor(block.color());
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(block.color().brighter());
+        // Line (Left): Bottom-Left -> Top-Left
+        graphics.drawLine(0, height - 1, 0, 0);
+        // Line (Top): Top-Left -> Top-Right
+        graphics.drawLine(0, 0, width - 1, 0);
+        graphics.setColor(block.color().darker());
+        // Line (Bottom): Bottom-Left -> Bottom-Right
+        graphics.drawLine(1, height - 1, width - 1, height - 1);
+        // Line (Right): Bottom-Right -> Top-Right
+        graphics.drawLine(width - 1, height - 1, width - 1, 1);
+    }
+
+    /**
+     * Draws the outline of a block with a translucent filling.
+     *
+     * @param graphics The {@link Graphics} context to use for drawing.
+     * @param block The block to draw.
+     * @param width The block width.
+     * @param height The block height.
+     */
+    private static void drawGhostBlock(final @NotNull Graphics graphics, final @NotNull Block block, final int width, final int height) {
+        final Color color = block.color();
+        graphics.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), GHOST_FILL_ALPHA));
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(color);
+        graphics.drawRect(0, 0, width - 1, height - 1);
+    }
+}
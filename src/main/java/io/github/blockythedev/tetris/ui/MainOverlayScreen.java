@@ -17,12 +17,14 @@
  */
 package io.github.blockythedev.tetris.ui;
 
-import io.github.blockythedev.tetris.constants.GameConstants;
+import io.github.blockythedev.tetris.constants.UiConstants;
 import io.github.blockythedev.tetris.constants.StringConstants;
 import io.github.blockythedev.tetris.logic.GameManager;
-import java.awt.BorderLayout;
+import io.github.blockythedev.tetris.logic.Gravity;
+import java.awt.Component;
 import java.awt.Font;
 import java.text.MessageFormat;
+import javax.swing.BoxLayout;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.SwingConstants;
@@ -40,6 +42,10 @@ public class MainOverlayScreen extends JPanel {
      * The screen label with the game statistics.
      */
     private final JLabel statsText;
+    /**
+     * The performance HUD below the game statistics.
+     */
+    private final PerformanceHud performanceHud;
 
     /**
      * Constructs the main overlay screen.
@@ -48,26 +54,46 @@ public class MainOverlayScreen extends JPanel {
      */
     public MainOverlayScreen(final @NotNull GameManager gameManager) {
         this.gameManager = gameManager;
-        statsText = new JLabel(MessageFormat.format(StringConstants.LABEL_TEXT_SCORE, 0));
+        statsText = new JLabel(MessageFormat.format(StringConstants.LABEL_TEXT_SCORE, 0, Gravity.getLevel(0)));
+        performanceHud = new PerformanceHud(gameManager);
     }
 
     /**
      * Initialises the UI of the main overlay screen.
      */
     public void initUI() {
-        setLayout(new BorderLayout());
+        // keeps the labels at their preferred size in the upper left corner, as they cover the board
+        setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
         setOpaque(false);
         statsText.setHorizontalAlignment(SwingConstants.LEFT);
         statsText.setVerticalAlignment(SwingConstants.TOP);
+        // only opaque components are shown above the heavyweight block container screen
+        statsText.setOpaque(true);
         final Font oldFont = statsText.getFont();
-        statsText.setFont(oldFont.deriveFont(oldFont.getSize() * GameConstants.FONT_FACTOR));
-        add(statsText, BorderLayout.NORTH);
+        statsText.setFont(oldFont.deriveFont(oldFont.getSize() * UiConstants.FONT_FACTOR));
+        statsText.setAlignmentX(Component.LEFT_ALIGNMENT);
+        add(statsText);
+
+        performanceHud.setFont(statsText.getFont().deriveFont(statsText.getFont().getSize2D() / 2));
+        performanceHud.setBackground(statsText.getBackground());
+        performanceHud.setForeground(statsText.getForeground());
+        performanceHud.setAlignmentX(Component.LEFT_ALIGNMENT);
+        add(performanceHud);
+    }
+
+    /**
+     * Shows or hides the performance HUD.
+     */
+    public void togglePerformanceHud() {
+        performanceHud.toggle();
+        revalidate();
     }
 
     /**
      * Updates the stats text.
      */
     public void updateStatsText() {
-        statsText.setText(MessageFormat.format(StringConstants.LABEL_TEXT_SCORE, gameManager.getStats().getRemovedLines()));
+        final int removedLines = gameManager.getEngine().getStats().getRemovedLines();
+        statsText.setText(MessageFormat.format(StringConstants.LABEL_TEXT_SCORE, removedLines, Gravity.getLevel(removedLines)));
     }
 }
@@ -17,9 +17,10 @@
  */
 package io.github.blockythedev.tetris.ui;
 
-import io.github.blockythedev.tetris.constants.GameConstants;
 import io.github.blockythedev.tetris.constants.StringConstants;
+import io.github.blockythedev.tetris.constants.UiConstants;
 import io.github.blockythedev.tetris.logic.GameManager;
+import io.github.blockythedev.tetris.logic.KeyManager;
 import java.awt.BorderLayout;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
@@ -50,7 +51,7 @@ public class MainScreen extends JFrame {
      */
     public MainScreen(final @NotNull GameManager gameManager) {
         this.gameManager = gameManager;
-        blockContainerScreen = new BlockContainerScreen(gameManager);
+        blockContainerScreen = new BlockContainerScreen(gameManager.getEngine());
         mainOverlayScreen = new MainOverlayScreen(gameManager);
     }
 
@@ -72,6 +73,7 @@ public class MainScreen extends JFrame {
                 final int confirmed = JOptionPane.showConfirmDialog(null, StringConstants.DIALOG_MESSAGE_CONFIRM_EXIT, StringConstants.DIALOG_TITLE_CONFIRM_EXIT, JOptionPane.YES_NO_OPTION);
 
                 if (confirmed == JOptionPane.YES_OPTION) {
+                    gameManager.shutdown();
                     setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
                 } else {
                     setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE);
@@ -85,12 +87,16 @@ public class MainScreen extends JFrame {
         updateTitle(StringConstants.WINDOW_TITLE_EXTENSION_READY);
         setLayout(new BorderLayout());
         blockContainerScreen.initUI();
+        final KeyManager keyManager = new KeyManager(gameManager);
+        blockContainerScreen.addKeyListener(keyManager);
+        blockContainerScreen.addFocusListener(keyManager);
         add(blockContainerScreen);
         mainOverlayScreen.initUI();
         setGlassPane(mainOverlayScreen);
         mainOverlayScreen.setVisible(true);
         pack();
         setVisible(true);
+        blockContainerScreen.initBufferStrategy();
         startGame();
     }
 
@@ -104,7 +110,8 @@ public class MainScreen extends JFrame {
 
         JOptionPane.showMessageDialog(this, StringConstants.DIALOG_MESSAGE_GAME_START, StringConstants.DIALOG_TITLE_GAME_START, JOptionPane.INFORMATION_MESSAGE);
         updateTitle(StringConstants.WINDOW_TITLE_EXTENSION_RUNNING);
-        gameManager.getTimer().start();
+        gameManager.getGameLoop().start();
+        blockContainerScreen.requestFocusInWindow();
     }
 
     /**
@@ -113,7 +120,7 @@ public class MainScreen extends JFrame {
      * @return Returns the generated text area with the game instructions.
      */
     private @NotNull JTextArea generateInstructionTextArea() {
-        if (GameConstants.SCREEN_SIZE_HEIGHT >= 1080) {
+        if (UiConstants.SCREEN_SIZE_HEIGHT >= 1080) {
             return new JTextArea(StringConstants.DIALOG_MESSAGE_GAME_INSTRUCTION);
         }
         return new JTextArea(StringConstants.DIALOG_MESSAGE_GAME_INSTRUCTION, 20, 70);
@@ -128,6 +135,15 @@ public class MainScreen extends JFrame {
         setTitle(MessageFormat.format(StringConstants.WINDOW_TITLE, extension));
     }
 
+    /**
+     * Gets the block container screen instance.
+     *
+     * @return Returns the instance of {@link BlockContainerScreen}.
+     */
+    public @NotNull BlockContainerScreen getBlockContainerScreen() {
+        return blockContainerScreen;
+    }
+
     /**
      * Gets the main overlay screen instance.
      *
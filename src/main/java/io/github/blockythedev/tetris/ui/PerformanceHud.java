@@ -0,0 +1,223 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.ui;
+
+import io.github.blockythedev.tetris.constants.StringConstants;
+import io.github.blockythedev.tetris.constants.UiConstants;
+import io.github.blockythedev.tetris.logic.GameLoop;
+import io.github.blockythedev.tetris.logic.GameManager;
+import io.github.blockythedev.tetris.utils.LatencyHistogram;
+import java.awt.Dimension;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JComponent;
+import javax.swing.Timer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The performance HUD showing the frame and tick rates, the frame time, the input latency and the allocation rate.
+ * <p>
+ * The values are sampled from the {@link GameLoop} by a Swing timer twice a second, so that the HUD is only painted
+ * with the timer instead of every frame. The percentiles cover the interval since the previous update.
+ * </p>
+ */
+public class PerformanceHud extends JComponent {
+    /**
+     * The number of text lines.
+     */
+    private static final int LINE_COUNT = 4;
+    /**
+     * The value used for measuring the widest possible text line.
+     */
+    private static final double WIDEST_VALUE = 9999.99;
+
+    /**
+     * The game manager.
+     */
+    private final GameManager gameManager;
+    /**
+     * The timer sampling the values.
+     */
+    private final Timer timer;
+    /**
+     * The thread bean for reading the allocated bytes or {@code null}, if it is not supported.
+     */
+    private final com.sun.management.ThreadMXBean threadBean;
+    /**
+     * The text lines painted with the next repaint.
+     */
+    private final String[] lines;
+    /**
+     * The game loop of the previous sample, as the loop is replaced for every new game.
+     */
+    private GameLoop sampledLoop;
+    /**
+     * The time of the previous sample in nanoseconds.
+     */
+    private long sampleTime;
+    /**
+     * The tick count of the previous sample.
+     */
+    private long sampleTickCount;
+    /**
+     * The frame count of the previous sample.
+     */
+    private long sampleFrameCount;
+    /**
+     * The allocated bytes of all threads at the previous sample.
+     */
+    private long sampleAllocatedBytes;
+
+    /**
+     * Constructs the performance HUD, which is hidden by default.
+     *
+     * @param gameManager The game manager instance.
+     */
+    public PerformanceHud(final @NotNull GameManager gameManager) {
+        this.gameManager = gameManager;
+        timer = new Timer(UiConstants.PERFORMANCE_HUD_INTERVAL_MS, event -> update());
+        threadBean = getAllocationThreadBean();
+        lines = new String[LINE_COUNT];
+        setOpaque(true);
+        setVisible(false);
+    }
+
+    /**
+     * Gets the thread bean for reading the allocated bytes of all threads.
+     *
+     * @return Returns the thread bean or {@code null}, if the allocated bytes cannot be read.
+     */
+    private static com.sun.management.@Nullable ThreadMXBean getAllocationThreadBean() {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof final com.sun.management.ThreadMXBean allocationBean
+                && allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled()) {
+            return allocationBean;
+        }
+        return null;
+    }
+
+    /**
+     * Shows or hides the HUD.
+     */
+    public void toggle() {
+        if (isVisible()) {
+            timer.stop();
+            setVisible(false);
+            return;
+        }
+        sampledLoop = null;
+        update();
+        setVisible(true);
+        timer.start();
+    }
+
+    /**
+     * Samples the current values and repaints the HUD.
+     */
+    private void update() {
+        final GameLoop gameLoop = gameManager.getGameLoop();
+        final long now = System.nanoTime();
+        final long tickCount = gameLoop.getTickCount();
+        final long frameCount = gameLoop.getFrameCount();
+        final long allocatedBytes = threadBean == null ? -1 : threadBean.getTotalThreadAllocatedBytes();
+
+        if (gameLoop != sampledLoop) {
+            // the first sample of a loop has no interval to compute the rates from
+            gameLoop.getFrameDurations().reset();
+            gameLoop.getInputLatencies().reset();
+            setLines(0, 0, 0, 0, 0, 0, allocatedBytes < 0 ? -1 : 0);
+        } else {
+            final double seconds = (now - sampleTime) / (double) TimeUnit.SECONDS.toNanos(1);
+            final LatencyHistogram frameDurations = gameLoop.getFrameDurations();
+            final LatencyHistogram inputLatencies = gameLoop.getInputLatencies();
+            setLines((frameCount - sampleFrameCount) / seconds,
+                    (tickCount - sampleTickCount) / seconds,
+                    frameDurations.getPercentile(50),
+                    frameDurations.getPercentile(99),
+                    inputLatencies.getPercentile(50),
+                    inputLatencies.getPercentile(99),
+                    allocatedBytes < 0 ? -1 : (allocatedBytes - sampleAllocatedBytes) / seconds);
+            frameDurations.reset();
+            inputLatencies.reset();
+        }
+
+        sampledLoop = gameLoop;
+        sampleTime = now;
+        sampleTickCount = tickCount;
+        sampleFrameCount = frameCount;
+        sampleAllocatedBytes = allocatedBytes;
+        repaint();
+    }
+
+    /**
+     * Formats the text lines.
+     *
+     * @param framesPerSecond The rendered frames per second.
+     * @param ticksPerSecond The game ticks per second.
+     * @param p50FrameNanos The median frame time in nanoseconds.
+     * @param p99FrameNanos The 99th percentile of the frame time in nanoseconds.
+     * @param p50InputNanos The median input latency in nanoseconds.
+     * @param p99InputNanos The 99th percentile of the input latency in nanoseconds.
+     * @param allocatedBytesPerSecond The allocated bytes per second or a negative value, if they cannot be read.
+     */
+    private void setLines(final double framesPerSecond, final double ticksPerSecond, final long p50FrameNanos, final long p99FrameNanos,
+                          final long p50InputNanos, final long p99InputNanos, final double allocatedBytesPerSecond) {
+        final double nanosPerMilli = TimeUnit.MILLISECONDS.toNanos(1);
+        lines[0] = String.format(StringConstants.HUD_TEXT_RATES, framesPerSecond, ticksPerSecond);
+        lines[1] = String.format(StringConstants.HUD_TEXT_FRAME_TIME, p50FrameNanos / nanosPerMilli, p99FrameNanos / nanosPerMilli);
+        lines[2] = String.format(StringConstants.HUD_TEXT_INPUT_LATENCY, p50InputNanos / nanosPerMilli, p99InputNanos / nanosPerMilli);
+        lines[3] = allocatedBytesPerSecond < 0
+                ? StringConstants.HUD_TEXT_ALLOCATION_RATE_UNSUPPORTED
+                : String.format(StringConstants.HUD_TEXT_ALLOCATION_RATE, allocatedBytesPerSecond / (1024 * 1024));
+    }
+
+    @Override
+    public @NotNull Dimension getPreferredSize() {
+        // the size fits the widest values, so that changing values never cause a new layout
+        final FontMetrics metrics = getFontMetrics(getFont());
+        int width = 0;
+        width = Math.max(width, metrics.stringWidth(String.format(StringConstants.HUD_TEXT_RATES, WIDEST_VALUE, WIDEST_VALUE)));
+        width = Math.max(width, metrics.stringWidth(String.format(StringConstants.HUD_TEXT_FRAME_TIME, WIDEST_VALUE, WIDEST_VALUE)));
+        width = Math.max(width, metrics.stringWidth(String.format(StringConstants.HUD_TEXT_INPUT_LATENCY, WIDEST_VALUE, WIDEST_VALUE)));
+        width = Math.max(width, metrics.stringWidth(String.format(StringConstants.HUD_TEXT_ALLOCATION_RATE, WIDEST_VALUE)));
+        return new Dimension(width, metrics.getHeight() * LINE_COUNT);
+    }
+
+    @Override
+    public @NotNull Dimension getMaximumSize() {
+        return getPreferredSize();
+    }
+
+    @Override
+    protected void paintComponent(final @NotNull Graphics graphics) {
+        graphics.setColor(getBackground());
+        graphics.fillRect(0, 0, getWidth(), getHeight());
+        graphics.setColor(getForeground());
+        graphics.setFont(getFont());
+        final FontMetrics metrics = graphics.getFontMetrics();
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i] != null) {
+                graphics.drawString(lines[i], 0, metrics.getHeight() * i + metrics.getAscent());
+            }
+        }
+    }
+}
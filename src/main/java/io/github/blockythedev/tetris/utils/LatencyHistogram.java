@@ -0,0 +1,157 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * A thread-safe histogram of latencies in nanoseconds.
+ * <p>
+ * The values are counted in logarithmic buckets, which are split into {@code 16} linear sub-buckets each,
+ * so that a percentile is accurate up to {@code 6.25%} of its value with a fixed size of a few kilobytes.
+ * Recording a value is lock-free and does not allocate.
+ * </p>
+ */
+public class LatencyHistogram {
+    /**
+     * The number of bits of the linear sub-buckets.
+     */
+    private static final int SUB_BUCKET_BITS = 4;
+    /**
+     * The number of linear sub-buckets per logarithmic bucket.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /**
+     * The number of buckets covering all positive long values.
+     */
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts;
+    private final LongAccumulator max;
+
+    /**
+     * Constructs an empty {@link LatencyHistogram}.
+     */
+    public LatencyHistogram() {
+        counts = new AtomicLongArray(BUCKETS);
+        max = new LongAccumulator(Math::max, 0);
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos The latency in nanoseconds. Negative values are recorded as {@code 0}.
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(nanos, 0);
+        counts.getAndIncrement(getBucket(value));
+        max.accumulate(value);
+    }
+
+    /**
+     * Gets the bucket of a value.
+     *
+     * @param value The non-negative value.
+     * @return Returns the index of the bucket.
+     */
+    private static int getBucket(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Gets the highest value of a bucket.
+     *
+     * @param bucket The index of the bucket.
+     * @return Returns the highest value counted in the bucket.
+     */
+    private static long getHighestValue(final int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final int shift = bucket / SUB_BUCKETS - 1;
+        final long lowestValue = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowestValue + (1L << shift) - 1;
+    }
+
+    /**
+     * Gets the number of recorded latencies.
+     *
+     * @return Returns the count.
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Gets a percentile of the recorded latencies.
+     *
+     * @param percentile The percentile between {@code 0} and {@code 100}.
+     * @return Returns the latency in nanoseconds, which is not exceeded by the given percentage of the recorded latencies,
+     *         or {@code 0}, if nothing was recorded.
+     */
+    public long getPercentile(final double percentile) {
+        final long[] snapshot = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+
+        final long rank = Math.max((long) Math.ceil(percentile / 100 * count), 1);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(getHighestValue(i), getMax());
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the highest recorded latency.
+     *
+     * @return Returns the latency in nanoseconds or {@code 0}, if nothing was recorded.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Removes all recorded latencies.
+     * <p>
+     * Note: Latencies recorded concurrently may be removed partially.
+     * </p>
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        max.reset();
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * School Project - Tetris Game
+ * Copyright (C) 2023 - present BlockyTheDev <https://github.com/BlockyTheDev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.blockythedev.tetris.utils;
+
+import io.github.blockythedev.tetris.shapes.PieceType;
+import java.util.SplittableRandom;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A class for generating the sequence of pieces of a game.
+ * <p>
+ * The pieces are drawn from a shuffled bag containing every {@link PieceType} once, which is refilled when it is empty.
+ * The upcoming pieces are kept in a fixed size ring buffer, so that they can be previewed.
+ * The same seed always leads to the same sequence and no objects are allocated for drawing a piece.
+ * Therefore, the state of a generator is fully described by its seed and the number of drawn pieces.
+ * </p>
+ * <p>
+ * Note: Instances of this class are not thread-safe, every game uses its own generator.
+ * </p>
+ */
+public class PieceGenerator {
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    private final PieceType[] bag;
+    private final PieceType[] preview;
+    private SplittableRandom random;
+    private long seed;
+    private int bagIndex;
+    private long drawCount;
+    private int previewHead;
+
+    /**
+     * Constructs a {@link PieceGenerator}.
+     *
+     * @param seed The seed of the piece sequence.
+     * @param previewSize The number of upcoming pieces, which can be previewed.
+     */
+    public PieceGenerator(final long seed, final int previewSize) {
+        if (previewSize < 1) {
+            throw new IllegalArgumentException("The preview size must be at least 1");
+        }
+        bag = PIECE_TYPES.clone();
+        preview = new PieceType[previewSize];
+        reset(seed);
+    }
+
+    /**
+     * Resets the generator to the start of the sequence of the given seed.
+     *
+     * @param seed The seed of the piece sequence.
+     */
+    public void reset(final long seed) {
+        this.seed = seed;
+        random = new SplittableRandom(seed);
+        System.arraycopy(PIECE_TYPES, 0, bag, 0, bag.length);
+        bagIndex = bag.length;
+        drawCount = 0;
+        previewHead = 0;
+        for (int i = 0; i < preview.length; i++) {
+            preview[i] = drawFromBag();
+        }
+    }
+
+    /**
+     * Restores the generator to a state of the sequence of the given seed by drawing the pieces again.
+     *
+     * @param seed The seed of the piece sequence.
+     * @param drawCount The number of drawn pieces of the state, see {@link #getDrawCount()}.
+     * @throws IllegalArgumentException Thrown, when the draw count is smaller than the preview size.
+     */
+    public void restore(final long seed, final long drawCount) {
+        if (drawCount < preview.length) {
+            throw new IllegalArgumentException("The draw count must be at least the preview size");
+        }
+        reset(seed);
+        while (this.drawCount < drawCount) {
+            next();
+        }
+    }
+
+    /**
+     * Takes the next piece of the sequence and appends a new one to the preview.
+     *
+     * @return Returns the next piece.
+     */
+    public @NotNull PieceType next() {
+        final PieceType next = preview[previewHead];
+        preview[previewHead] = drawFromBag();
+        previewHead = (previewHead + 1) % preview.length;
+        return next;
+    }
+
+    /**
+     * Gets an upcoming piece without taking it.
+     *
+     * @param index The index of the upcoming piece, where {@code 0} is the piece returned by the next {@link #next()} call.
+     * @return Returns the upcoming piece.
+     */
+    public @NotNull PieceType peek(final int index) {
+        if (index < 0 || index >= preview.length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return preview[(previewHead + index) % preview.length];
+    }
+
+    /**
+     * Draws a piece from the bag and refills the bag, when it is empty.
+     *
+     * @return Returns the drawn piece.
+     */
+    private @NotNull PieceType drawFromBag() {
+        if (bagIndex == bag.length) {
+            // Fisher-Yates shuffle of the previous bag order
+            for (int i = bag.length - 1; i > 0; i--) {
+                final int j = random.nextInt(i + 1);
+                final PieceType swapped = bag[i];
+                bag[i] = bag[j];
+                bag[j] = swapped;
+            }
+            bagIndex = 0;
+        }
+        drawCount++;
+        return bag[bagIndex++];
+    }
+
+    /**
+     * Gets the number of upcoming pieces, which can be previewed.
+     *
+     * @return Returns the preview size.
+     */
+    public int getPreviewSize() {
+        return preview.length;
+    }
+
+    /**
+     * Gets the number of pieces drawn from the bag since the last reset, including the previewed ones.
+     *
+     * @return Returns the draw count.
+     */
+    public long getDrawCount() {
+        return drawCount;
+    }
+
+    /**
+     * Gets the seed of the current piece sequence.
+     *
+     * @return Returns the seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+}
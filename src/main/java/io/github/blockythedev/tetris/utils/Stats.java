@@ -18,16 +18,18 @@
 package io.github.blockythedev.tetris.utils;
 
 /**
- * A class for storing the statistics.
+ * A class for storing the statistics of a game.
+ * <p>
+ * Every game has its own instance, so that multiple games can run within the same process.
+ * </p>
  */
 public class Stats {
-    private static Stats INSTANCE;
     private int removedLines;
 
     /**
      * Constructs an instance of the class {@link Stats}.
      */
-    private Stats() {
+    public Stats() {
         this.removedLines = 0;
     }
 
@@ -46,23 +48,20 @@ public class Stats {
     }
 
     /**
-     * Get the removed line stats.
+     * Sets the removed lines stats, e.g. when a saved game is restored.
      *
-     * @return Returns the removed lines stats value.
+     * @param removedLines The removed lines stats value.
      */
-    public int getRemovedLines() {
-        return removedLines;
+    public void setRemovedLines(final int removedLines) {
+        this.removedLines = removedLines;
     }
 
     /**
-     * Gets the instance of the class {@link Stats}.
+     * Get the removed line stats.
      *
-     * @return Returns the stats instance.
+     * @return Returns the removed lines stats value.
      */
-    public static Stats getInstance() {
-        if (INSTANCE == null) {
-            INSTANCE = new Stats();
-        }
-        return INSTANCE;
+    public int getRemovedLines() {
+        return removedLines;
     }
 }
@@ -17,33 +17,22 @@
  */
 package io.github.blockythedev.tetris.utils;
 
-import io.github.blockythedev.tetris.shapes.FourLine;
-import io.github.blockythedev.tetris.shapes.LLeft;
-import io.github.blockythedev.tetris.shapes.LRight;
-import io.github.blockythedev.tetris.shapes.Shape;
-import io.github.blockythedev.tetris.shapes.Square;
-import io.github.blockythedev.tetris.shapes.TTurned;
-import io.github.blockythedev.tetris.shapes.ZLeft;
-import io.github.blockythedev.tetris.shapes.ZRight;
-import java.lang.reflect.InvocationTargetException;
+import io.github.blockythedev.tetris.constants.GameConstants;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 import java.util.Random;
-import java.util.Set;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * A class containing many utility methods.
  */
 public class Utils {
+    /**
+     * The maximum number of bytes of an encoded varint, see {@link #putVarLong(ByteBuffer, long)}.
+     */
+    public static final int MAX_VAR_LONG_BYTES = 10;
+
     private static final Random random = new Random();
-    private static final Set<Class<? extends Shape>> shapes = Set.of(
-            FourLine.class,
-            LRight.class,
-            LLeft.class,
-            TTurned.class,
-            Square.class,
-            ZLeft.class,
-            ZRight.class
-    );
 
     /**
      * Prevents the constructor from being called.
@@ -55,51 +44,58 @@ public class Utils {
     }
 
     /**
-     * Selects a random {@link Shape} and creates an instance of it.
+     * Checks if the row is completely full.
      *
-     * @return Returns a random {@link Shape} instance.
+     * @param row The occupancy mask of the row to check.
+     * @return Returns {@code true} if the row is completely full, else {@code false}.
      */
-    public static @NotNull Shape selectRandomShape() {
-        final Class<? extends Shape> chosenShape = shapes.stream()
-                .toList()
-                .get(random.nextInt(shapes.size()));
+    public static boolean isFull(final int row) {
+        return (row & GameConstants.FULL_LINE_MASK) == GameConstants.FULL_LINE_MASK;
+    }
 
-        try {
-            return chosenShape.getDeclaredConstructor().newInstance();
-        } catch (final InstantiationException | IllegalAccessException | InvocationTargetException |
-                 NoSuchMethodException e) {
-            throw new RuntimeException(e);
-        }
+    /**
+     * Checks if the row is completely empty.
+     *
+     * @param row The occupancy mask of the row to check.
+     * @return Returns {@code true} if the row is completely empty, else {@code false}.
+     */
+    public static boolean isEmpty(final int row) {
+        return row == 0;
     }
 
     /**
-     * Checks if the row is completely full.
+     * Writes an unsigned LEB128 varint with 7 bits per byte, starting with the lowest bits.
      *
-     * @param row The row to check.
-     * @return Returns {@code true} if the array is completely full, else {@code false}.
+     * @param buffer The buffer to write to.
+     * @param value The unsigned value.
      */
-    public static boolean isFull(final Block @NotNull[] row) {
-        for (final Block block : row) {
-            if (block == null) {
-                return false;
-            }
+    public static void putVarLong(final @NotNull ByteBuffer buffer, final long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            buffer.put((byte) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
         }
-        return true;
+        buffer.put((byte) remaining);
     }
 
     /**
-     * Checks if the row is completely empty.
+     * Reads an unsigned LEB128 varint with 7 bits per byte, starting with the lowest bits.
      *
-     * @param row The row to check.
-     * @return Returns {@code true} if the array is completely empty, else {@code false}.
+     * @param buffer The buffer to read from.
+     * @return Returns the unsigned value.
+     * @throws BufferUnderflowException Thrown, when the buffer ends within the varint.
+     * @throws IllegalArgumentException Thrown, when the varint is longer than {@link #MAX_VAR_LONG_BYTES}.
      */
-    public static boolean isEmpty(final Block @NotNull[] row) {
-        for (final Block block : row) {
-            if (block != null) {
-                return false;
+    public static long getVarLong(final @NotNull ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < MAX_VAR_LONG_BYTES * 7; shift += 7) {
+            final byte current = buffer.get();
+            value |= (long) (current & 0x7F) << shift;
+            if (current >= 0) {
+                return value;
             }
         }
-        return true;
+        throw new IllegalArgumentException("The varint is too long");
     }
 
     /**